@@ -0,0 +1,124 @@
+package org.skyline.mcq.application.mappings;
+
+import org.openjdk.jmh.annotations.*;
+import org.skyline.mcq.application.dtos.output.ResultResponseDto;
+import org.skyline.mcq.application.dtos.output.SurveyResponseDto;
+import org.skyline.mcq.domain.models.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int questionCount;
+
+    private AnnotationConfigApplicationContext context;
+    private ResultMapper resultMapper;
+    private SurveyMapper surveyMapper;
+    private Survey survey;
+    private Result result;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(MappingBenchmark.class.getPackageName());
+        resultMapper = context.getBean(ResultMapper.class);
+        surveyMapper = context.getBean(SurveyMapper.class);
+
+        Account creator = account("creator");
+        Account respondent = account("respondent");
+        Category category = Category.builder()
+                .id(UUID.randomUUID())
+                .title("Category")
+                .description("Benchmark category")
+                .account(creator)
+                .build();
+
+        survey = Survey.builder()
+                .id(UUID.randomUUID())
+                .title("Survey")
+                .description("Benchmark survey")
+                .maxPoints(questionCount * 10)
+                .questionCount(questionCount)
+                .timeLimit(3600)
+                .attempts(1)
+                .category(category)
+                .account(creator)
+                .build();
+
+        Set<Answer> answers = new HashSet<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        result = Result.builder()
+                .id(UUID.randomUUID())
+                .account(respondent)
+                .survey(survey)
+                .startTime(now)
+                .endTime(now)
+                .duration(1800)
+                .totalPoints(questionCount * 10)
+                .correctAnswers(questionCount)
+                .incorrectAnswers(0)
+                .answers(answers)
+                .build();
+
+        for (int i = 0; i < questionCount; i++) {
+            Question question = Question.builder()
+                    .id(UUID.randomUUID())
+                    .content("Question " + i)
+                    .points(10)
+                    .allowedAnswers(1)
+                    .options("[\"Paris\", \"London\", \"Berlin\", \"Madrid\"]")
+                    .correctAnswers("[\"Paris\"]")
+                    .survey(survey)
+                    .build();
+
+            survey.getQuestions().add(question);
+            answers.add(Answer.builder()
+                    .id(UUID.randomUUID())
+                    .account(respondent)
+                    .question(question)
+                    .result(result)
+                    .userAnswers("[\"Paris\"]")
+                    .isCorrect(true)
+                    .points(10)
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResultResponseDto resultToResultResponseDto() {
+        return resultMapper.resultToResultResponseDto(result);
+    }
+
+    @Benchmark
+    public SurveyResponseDto surveyToSurveyResponseDto() {
+        return surveyMapper.surveyToSurveyResponseDto(survey);
+    }
+
+    private static Account account(String username) {
+        return Account.builder()
+                .id(UUID.randomUUID())
+                .firstName(username)
+                .lastName(username)
+                .username(username)
+                .email(username + "@example.com")
+                .build();
+    }
+}
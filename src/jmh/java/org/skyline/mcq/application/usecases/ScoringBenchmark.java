@@ -0,0 +1,97 @@
+package org.skyline.mcq.application.usecases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.skyline.mcq.application.dtos.input.AnswersDto;
+import org.skyline.mcq.application.dtos.input.SurveyAnswersDto;
+import org.skyline.mcq.application.scoring.AnswerKeyCache;
+import org.skyline.mcq.application.scoring.PartialCreditScoringStrategy;
+import org.skyline.mcq.domain.models.Account;
+import org.skyline.mcq.domain.models.Question;
+import org.skyline.mcq.domain.models.Result;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.infrastructure.outputport.QuestionRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int questionCount;
+
+    private SubmissionService submissionService;
+    private SurveyAnswersDto surveyAnswersDto;
+    private Account account;
+    private Survey survey;
+
+    @Setup
+    public void setUp() {
+        survey = Survey.builder().id(UUID.randomUUID()).build();
+        account = Account.builder().id(UUID.randomUUID()).build();
+
+        List<Question> questions = new ArrayList<>();
+        List<AnswersDto> answers = new ArrayList<>();
+
+        for (int i = 0; i < questionCount; i++) {
+            questions.add(Question.builder()
+                    .id(UUID.randomUUID())
+                    .points(10)
+                    .allowedAnswers(2)
+                    .options("{\"optionA\":\"Python\",\"optionB\":\"HTML\",\"optionC\":\"Java\",\"optionD\":\"CSS\"}")
+                    .correctAnswers("{\"optionA\":\"Python\",\"optionC\":\"Java\"}")
+                    .survey(survey)
+                    .build());
+
+            answers.add(AnswersDto.builder()
+                    .questionId(questions.get(i).getId())
+                    .userAnswers(i % 3 == 0 ? "{\"optionB\":\"HTML\"}" : "{\"optionA\":\"Python\",\"optionC\":\"Java\"}")
+                    .build());
+        }
+
+        surveyAnswersDto = SurveyAnswersDto.builder()
+                .surveyId(survey.getId())
+                .answers(answers)
+                .startTime(LocalDateTime.now())
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .build();
+
+        QuestionRepository questionRepository = questionRepository(questions);
+        AnswerKeyCache answerKeyCache = new AnswerKeyCache(questionRepository, new ObjectMapper(), 10);
+        answerKeyCache.get(survey.getId());
+
+        submissionService = new SubmissionService(null, null, questionRepository, null, null,
+                answerKeyCache, new PartialCreditScoringStrategy(), null, null, null);
+    }
+
+    @Benchmark
+    public Result calculationResult() {
+        return submissionService.calculationResult(surveyAnswersDto, account, survey);
+    }
+
+    private static QuestionRepository questionRepository(List<Question> questions) {
+        Map<UUID, Question> byId = questions.stream().collect(Collectors.toMap(Question::getId, Function.identity()));
+
+        return (QuestionRepository) Proxy.newProxyInstance(
+                QuestionRepository.class.getClassLoader(),
+                new Class<?>[]{QuestionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getReferenceById" -> byId.get((UUID) args[0]);
+                    case "findAllBySurveyId" -> questions;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,180 @@
+package org.skyline.mcq.infrastructure.inputadapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.skyline.mcq.MultipleChoiceQuestionnairesApplication;
+import org.skyline.mcq.application.dtos.input.AnswersDto;
+import org.skyline.mcq.application.dtos.input.QuestionRequestDto;
+import org.skyline.mcq.application.dtos.input.SignUpRequestDto;
+import org.skyline.mcq.application.dtos.input.SurveyAnswersDto;
+import org.skyline.mcq.application.dtos.input.SurveyRequestDto;
+import org.skyline.mcq.application.dtos.output.QuestionResponseDto;
+import org.skyline.mcq.application.dtos.output.SurveyResponseDto;
+import org.skyline.mcq.domain.enums.TypeRole;
+import org.skyline.mcq.infrastructure.inputport.AccountInputPort;
+import org.skyline.mcq.infrastructure.inputport.QuestionInputPort;
+import org.skyline.mcq.infrastructure.inputport.SurveyInputPort;
+import org.skyline.mcq.infrastructure.outputport.CategoryRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class ServerLoadBenchmark {
+
+    private static final String SURVEY_PATH = "/api/v1/surveys";
+    private static final int QUESTIONS = 10;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI baseUri;
+    private String token;
+    private String submission;
+    private UUID surveyId;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(MultipleChoiceQuestionnairesApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + "virtual".equals(threads),
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--logging.level.root=warn",
+                "--logging.level.org.skyline=warn",
+                "--logging.level.org.hibernate.orm.jdbc.bind=warn",
+                "--logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=off");
+        baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        AuthAPI authAPI = context.getBean(AuthAPI.class);
+        register(authAPI, "creator" + suffix, TypeRole.ROLE_SURVEY_CREATOR);
+        token = register(authAPI, "respondent" + suffix, TypeRole.ROLE_SURVEY_RESPONDENT);
+
+        UUID creatorId = context.getBean(AccountInputPort.class).getUserByEmail("creator" + suffix + "@loadtest.dev").orElseThrow().getId();
+        UUID categoryId = context.getBean(CategoryRepository.class).findAll().getFirst().getId();
+        surveyId = context.getBean(SurveyInputPort.class).saveSurvey(creatorId, SurveyRequestDto.builder()
+                .title("Load test")
+                .description("Survey used by ServerLoadBenchmark")
+                .image("load-test.png")
+                .maxPoints(QUESTIONS * 10)
+                .questionCount(QUESTIONS)
+                .timeLimit(3_600_000)
+                .attempts(0)
+                .hasRestrictedAccess(false)
+                .categoryId(categoryId)
+                .status(true)
+                .build()).map(SurveyResponseDto::getId).orElseThrow();
+
+        QuestionInputPort questionInputPort = context.getBean(QuestionInputPort.class);
+        List<AnswersDto> answers = new ArrayList<>();
+        for (int i = 0; i < QUESTIONS; i++) {
+            UUID questionId = questionInputPort.saveQuestion(QuestionRequestDto.builder()
+                    .content("Question " + i)
+                    .image("question.png")
+                    .points(10)
+                    .allowedAnswers(2)
+                    .options("{\"optionA\":\"Python\",\"optionB\":\"HTML\",\"optionC\":\"Java\",\"optionD\":\"CSS\"}")
+                    .correctAnswers("{\"optionA\":\"Python\",\"optionC\":\"Java\"}")
+                    .surveyId(surveyId)
+                    .build()).map(QuestionResponseDto::getId).orElseThrow();
+
+            answers.add(AnswersDto.builder()
+                    .questionId(questionId)
+                    .userAnswers(i % 3 == 0 ? "{\"optionB\":\"HTML\"}" : "{\"optionA\":\"Python\",\"optionC\":\"Java\"}")
+                    .build());
+        }
+
+        LocalDateTime startTime = LocalDateTime.now();
+        submission = context.getBean(ObjectMapper.class).writeValueAsString(SurveyAnswersDto.builder()
+                .surveyId(surveyId)
+                .answers(answers)
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(5))
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int submitSurvey(Responses responses) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(baseUri.resolve(SURVEY_PATH + "/submit"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(submission)), responses);
+    }
+
+    @Benchmark
+    public int getSurveyById(Responses responses) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(baseUri.resolve(SURVEY_PATH + "/" + surveyId)).GET(), responses);
+    }
+
+    private int send(HttpRequest.Builder request, Responses responses) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() == 503) {
+            responses.rejected++;
+        } else if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + ": " + response.body());
+        } else {
+            responses.succeeded++;
+        }
+        return response.statusCode();
+    }
+
+    /**
+     * The primary score counts every request, including those turned away with 503; the {@code succeeded}
+     * and {@code rejected} rates are the ones to compare between thread modes.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Responses {
+
+        public long succeeded;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            succeeded = 0;
+            rejected = 0;
+        }
+    }
+
+    private static String register(AuthAPI authAPI, String username, TypeRole role) {
+        SignUpRequestDto request = SignUpRequestDto.builder()
+                .firstName(username)
+                .lastName("Load test")
+                .username(username)
+                .email(username + "@loadtest.dev")
+                .password("password")
+                .build();
+
+        return Objects.requireNonNull(authAPI.registerUserWithRole(request, role).getBody()).getAccessToken();
+    }
+}
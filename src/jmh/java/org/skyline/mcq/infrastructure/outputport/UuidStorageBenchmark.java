@@ -0,0 +1,159 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import org.openjdk.jmh.annotations.*;
+import org.skyline.mcq.domain.utils.UuidBinary;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidStorageBenchmark {
+
+    private static final int ANSWERS_PER_RESULT = 20;
+    private static final int INSERT_BATCH = 1000;
+
+    @Param({"varchar", "binary"})
+    private String storage;
+
+    @Param({"5000"})
+    private int results;
+
+    private Connection connection;
+    private PreparedStatement joinStatement;
+    private String resultTable;
+    private String answerTable;
+    private final List<UUID> resultIds = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("UUID_BENCHMARK_URL", "jdbc:h2:file:./target/uuid-storage"),
+                env("UUID_BENCHMARK_USERNAME", "sa"),
+                env("UUID_BENCHMARK_PASSWORD", ""));
+        resultTable = "bench_result_" + storage;
+        answerTable = "bench_answer_" + storage;
+        String keyType = "binary".equals(storage) ? "binary(16)" : "varchar(36)";
+
+        dropTables();
+        execute("CREATE TABLE " + resultTable + " (id " + keyType + " NOT NULL, account_id " + keyType + " NOT NULL, total_points int, PRIMARY KEY (id))");
+        execute("CREATE TABLE " + answerTable + " (id " + keyType + " NOT NULL, result_id " + keyType + " NOT NULL, question_id " + keyType + " NOT NULL, points int, PRIMARY KEY (id), "
+                + "CONSTRAINT fk_" + answerTable + "_result FOREIGN KEY (result_id) REFERENCES " + resultTable + " (id))");
+
+        populate();
+
+        joinStatement = connection.prepareStatement("SELECT r.total_points, a.points FROM " + resultTable + " r JOIN " + answerTable + " a ON a.result_id = r.id WHERE r.id = ?");
+        printStorage();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        joinStatement.close();
+        dropTables();
+        connection.close();
+    }
+
+    @Benchmark
+    public int joinAnswersByResult() throws SQLException {
+        bind(joinStatement, 1, resultIds.get(ThreadLocalRandom.current().nextInt(resultIds.size())));
+
+        int points = 0;
+        try (ResultSet resultSet = joinStatement.executeQuery()) {
+            while (resultSet.next()) points += resultSet.getInt(2);
+        }
+        return points;
+    }
+
+    private void populate() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insertResult = connection.prepareStatement("INSERT INTO " + resultTable + " (id, account_id, total_points) VALUES (?, ?, ?)");
+             PreparedStatement insertAnswer = connection.prepareStatement("INSERT INTO " + answerTable + " (id, result_id, question_id, points) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < results; i++) {
+                UUID resultId = UUID.randomUUID();
+                resultIds.add(resultId);
+                bind(insertResult, 1, resultId);
+                bind(insertResult, 2, UUID.randomUUID());
+                insertResult.setInt(3, ANSWERS_PER_RESULT);
+                insertResult.addBatch();
+
+                for (int j = 0; j < ANSWERS_PER_RESULT; j++) {
+                    bind(insertAnswer, 1, UUID.randomUUID());
+                    bind(insertAnswer, 2, resultId);
+                    bind(insertAnswer, 3, UUID.randomUUID());
+                    insertAnswer.setInt(4, 1);
+                    insertAnswer.addBatch();
+                }
+
+                if ((i + 1) % (INSERT_BATCH / ANSWERS_PER_RESULT) == 0) {
+                    insertResult.executeBatch();
+                    insertAnswer.executeBatch();
+                    connection.commit();
+                }
+            }
+            insertResult.executeBatch();
+            insertAnswer.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void printStorage() throws SQLException {
+        if (connection.getMetaData().getURL().startsWith("jdbc:mysql")) {
+            execute("ANALYZE TABLE " + resultTable + ", " + answerTable);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT table_name, data_length, index_length FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name IN (?, ?)")) {
+                statement.setString(1, resultTable);
+                statement.setString(2, answerTable);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        System.out.printf("%n%s: data %d bytes, indexes %d bytes%n", resultSet.getString(1), resultSet.getLong(2), resultSet.getLong(3));
+                    }
+                }
+            }
+            return;
+        }
+
+        for (String table : List.of(resultTable, answerTable)) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT DISK_SPACE_USED(?)")) {
+                statement.setString(1, table.toUpperCase());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    System.out.printf("%n%s: data and indexes %d bytes%n", table, resultSet.getLong(1));
+                }
+            }
+        }
+    }
+
+    private void bind(PreparedStatement statement, int index, UUID uuid) throws SQLException {
+        if ("binary".equals(storage)) {
+            statement.setBytes(index, UuidBinary.toBytes(uuid));
+        } else {
+            statement.setString(index, uuid.toString());
+        }
+    }
+
+    private void dropTables() throws SQLException {
+        execute("DROP TABLE IF EXISTS " + answerTable);
+        execute("DROP TABLE IF EXISTS " + resultTable);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,48 @@
+package org.skyline.mcq.infrastructure.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.skyline.mcq.application.utils.CustomUserDetails;
+import org.skyline.mcq.infrastructure.security.TokenDenylist;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String EMAIL = "respondent@example.com";
+
+    @Param({"0", "60000"})
+    private long tokenCacheTtl;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new TokenDenylist(3600000));
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "7oJ2MD5QX64bAJxvRj9S21Cv9wR7NTg3EZyNqAuqJ1I2028lin");
+        ReflectionTestUtils.setField(jwtTokenProvider, "expiration", 3600000);
+        ReflectionTestUtils.setField(jwtTokenProvider, "tokenCacheTtl", tokenCacheTtl);
+        ReflectionTestUtils.setField(jwtTokenProvider, "tokenCacheSize", 10000L);
+        jwtTokenProvider.init();
+        token = jwtTokenProvider.generateToken(CustomUserDetails.builder()
+                .id(UUID.randomUUID())
+                .email(EMAIL)
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_SURVEY_RESPONDENT")))
+                .build());
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtTokenProvider.validateToken(token, EMAIL);
+    }
+}
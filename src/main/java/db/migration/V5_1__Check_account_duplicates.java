@@ -0,0 +1,46 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * V6 makes account email and username unique. Older versions did not enforce that, so this stops the upgrade
+ * with the offending values instead of letting the index creation fail halfway through V6.
+ */
+public class V5_1__Check_account_duplicates extends BaseJavaMigration {
+
+    private static final int REPORTED_DUPLICATES = 10;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        List<String> problems = new ArrayList<>();
+
+        for (String column : List.of("email", "username")) {
+            List<String> duplicates = duplicates(connection, column);
+            if (!duplicates.isEmpty()) problems.add(column + " " + duplicates);
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Accounts share the same " + String.join(" and ", problems)
+                    + ". Merge or rename these accounts before migrating, V6 creates unique indexes on both columns.");
+        }
+    }
+
+    private List<String> duplicates(Connection connection, String column) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT " + column + " FROM account GROUP BY " + column
+                     + " HAVING COUNT(*) > 1 ORDER BY " + column + " LIMIT " + REPORTED_DUPLICATES)) {
+            while (resultSet.next()) values.add(resultSet.getString(1));
+        }
+        return values;
+    }
+}
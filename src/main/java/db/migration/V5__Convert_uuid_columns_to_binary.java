@@ -0,0 +1,180 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class V5__Convert_uuid_columns_to_binary extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final String BINARY_SUFFIX = "_bin";
+
+    private static final List<UuidTable> TABLES = List.of(
+            new UuidTable("account", List.of("id"), List.of(column("id", false))),
+            new UuidTable("role", List.of("id"), List.of(column("id", false))),
+            new UuidTable("category", List.of("id"), List.of(column("id", false), column("account_id", true))),
+            new UuidTable("account_role", List.of("account_id", "role_id"), List.of(column("account_id", false), column("role_id", false))),
+            new UuidTable("survey", List.of("id"), List.of(column("id", false), column("category_id", false), column("account_id", false))),
+            new UuidTable("question", List.of("id"), List.of(column("id", false), column("survey_id", false))),
+            new UuidTable("result", List.of("id"), List.of(column("id", false), column("account_id", false), column("survey_id", false))),
+            new UuidTable("answer", List.of("id"), List.of(column("id", false), column("account_id", false), column("question_id", false), column("result_id", false))),
+            new UuidTable("refresh_token", List.of("id"), List.of(column("id", false), column("account_id", false)))
+    );
+
+    private static final List<ForeignKey> FOREIGN_KEYS = List.of(
+            new ForeignKey("category", "account_id", "account"),
+            new ForeignKey("account_role", "account_id", "account"),
+            new ForeignKey("account_role", "role_id", "role"),
+            new ForeignKey("survey", "category_id", "category"),
+            new ForeignKey("survey", "account_id", "account"),
+            new ForeignKey("question", "survey_id", "survey"),
+            new ForeignKey("result", "account_id", "account"),
+            new ForeignKey("result", "survey_id", "survey"),
+            new ForeignKey("answer", "account_id", "account"),
+            new ForeignKey("answer", "question_id", "question"),
+            new ForeignKey("answer", "result_id", "result"),
+            new ForeignKey("refresh_token", "account_id", "account")
+    );
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        for (ForeignKey foreignKey : FOREIGN_KEYS) dropForeignKey(connection, foreignKey);
+
+        for (UuidTable table : TABLES) {
+            String keyType = columnType(connection, table.name(), table.keys().getFirst());
+            if ("binary".equalsIgnoreCase(keyType)) continue;
+
+            if (keyType != null) {
+                addBinaryColumns(connection, table);
+                backfill(connection, table);
+                dropCharColumns(connection, table);
+            }
+            renameBinaryColumns(connection, table);
+        }
+
+        for (ForeignKey foreignKey : FOREIGN_KEYS) addForeignKey(connection, foreignKey);
+    }
+
+    private void dropForeignKey(Connection connection, ForeignKey foreignKey) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT constraint_name FROM information_schema.key_column_usage WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ? AND referenced_table_name = ?")) {
+            statement.setString(1, foreignKey.table());
+            statement.setString(2, foreignKey.column());
+            statement.setString(3, foreignKey.referencedTable());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) names.add(resultSet.getString(1));
+            }
+        }
+
+        for (String name : names) execute(connection, "ALTER TABLE " + foreignKey.table() + " DROP FOREIGN KEY " + name);
+    }
+
+    private void addForeignKey(Connection connection, ForeignKey foreignKey) throws SQLException {
+        execute(connection, "ALTER TABLE " + foreignKey.table() + " ADD CONSTRAINT fk_" + foreignKey.table() + "_" + foreignKey.column()
+                + " FOREIGN KEY (" + foreignKey.column() + ") REFERENCES " + foreignKey.referencedTable() + " (id)");
+    }
+
+    private void addBinaryColumns(Connection connection, UuidTable table) throws SQLException {
+        List<String> additions = new ArrayList<>();
+        for (UuidColumn column : table.columns()) {
+            if (columnType(connection, table.name(), column.name() + BINARY_SUFFIX) == null) {
+                additions.add("ADD COLUMN " + column.name() + BINARY_SUFFIX + " BINARY(16) NULL AFTER " + column.name());
+            }
+        }
+
+        if (!additions.isEmpty()) execute(connection, "ALTER TABLE " + table.name() + " " + String.join(", ", additions));
+    }
+
+    private void backfill(Connection connection, UuidTable table) throws SQLException {
+        String key = table.keys().getFirst();
+        String assignments = table.columns().stream()
+                .map(column -> column.name() + BINARY_SUFFIX + " = UUID_TO_BIN(" + column.name() + ")")
+                .collect(Collectors.joining(", "));
+
+        String nextBoundary = "SELECT " + key + " FROM " + table.name() + " WHERE " + key + " > ? ORDER BY " + key + " LIMIT 1 OFFSET " + (CHUNK_SIZE - 1);
+        String updateChunk = "UPDATE " + table.name() + " SET " + assignments + " WHERE " + key + " > ? AND " + key + " <= ?";
+        String updateRest = "UPDATE " + table.name() + " SET " + assignments + " WHERE " + key + " > ?";
+
+        String lower = "";
+        while (true) {
+            String upper = queryForString(connection, nextBoundary, lower);
+            if (upper == null) {
+                update(connection, updateRest, lower);
+                return;
+            }
+            update(connection, updateChunk, lower, upper);
+            lower = upper;
+        }
+    }
+
+    private void dropCharColumns(Connection connection, UuidTable table) throws SQLException {
+        List<String> changes = new ArrayList<>();
+        changes.add("DROP PRIMARY KEY");
+        for (UuidColumn column : table.columns()) changes.add("DROP COLUMN " + column.name());
+
+        execute(connection, "ALTER TABLE " + table.name() + " " + String.join(", ", changes));
+    }
+
+    private void renameBinaryColumns(Connection connection, UuidTable table) throws SQLException {
+        List<String> changes = new ArrayList<>();
+        for (UuidColumn column : table.columns()) {
+            changes.add("CHANGE COLUMN " + column.name() + BINARY_SUFFIX + " " + column.name() + " BINARY(16) " + (column.nullable() ? "NULL" : "NOT NULL"));
+        }
+        changes.add("ADD PRIMARY KEY (" + String.join(", ", table.keys()) + ")");
+
+        execute(connection, "ALTER TABLE " + table.name() + " " + String.join(", ", changes));
+    }
+
+    private String columnType(Connection connection, String table, String column) throws SQLException {
+        return queryForString(connection,
+                "SELECT data_type FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                table, column);
+    }
+
+    private String queryForString(Connection connection, String sql, String... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) statement.setString(i + 1, parameters[i]);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    private void update(Connection connection, String sql, String... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) statement.setString(i + 1, parameters[i]);
+            statement.executeUpdate();
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static UuidColumn column(String name, boolean nullable) {
+        return new UuidColumn(name, nullable);
+    }
+
+    private record UuidTable(String name, List<String> keys, List<UuidColumn> columns) {
+    }
+
+    private record UuidColumn(String name, boolean nullable) {
+    }
+
+    private record ForeignKey(String table, String column, String referencedTable) {
+    }
+}
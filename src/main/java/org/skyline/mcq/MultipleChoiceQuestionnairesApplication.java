@@ -2,8 +2,10 @@ package org.skyline.mcq;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class MultipleChoiceQuestionnairesApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,6 @@
+package org.skyline.mcq.application.dtos.input;
+
+public interface QuestionOptions {
+    String getOptions();
+    String getCorrectAnswers();
+}
@@ -6,12 +6,14 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.skyline.mcq.application.utils.JsonValidation;
+import org.skyline.mcq.application.utils.OptionLimit;
 
 import java.util.UUID;
 
 @Builder
 @Getter @Setter
-public class QuestionRequestDto {
+@OptionLimit
+public class QuestionRequestDto implements QuestionOptions {
 
     @NotNull
     @NotBlank
@@ -6,10 +6,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.skyline.mcq.application.utils.JsonValidation;
+import org.skyline.mcq.application.utils.OptionLimit;
 
 @Builder
 @Getter @Setter
-public class QuestionUpdateRequestDto {
+@OptionLimit
+public class QuestionUpdateRequestDto implements QuestionOptions {
 
     @NotNull
     @NotBlank
@@ -0,0 +1,6 @@
+package org.skyline.mcq.application.dtos.output;
+
+import java.util.UUID;
+
+public record AnswerSampleDto(UUID questionId, String userAnswers, Boolean isCorrect, Integer totalPoints) {
+}
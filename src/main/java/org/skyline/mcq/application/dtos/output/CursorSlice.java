@@ -0,0 +1,18 @@
+package org.skyline.mcq.application.dtos.output;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+@Getter
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, Pageable pageable, boolean hasNext, String nextCursor) {
+        super(content, pageable, hasNext);
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,6 @@
+package org.skyline.mcq.application.dtos.output;
+
+import java.util.List;
+
+public record DashboardUpdateDto(SurveyStatsDto stats, List<SubmissionSummaryDto> submissions, long droppedSubmissions) {
+}
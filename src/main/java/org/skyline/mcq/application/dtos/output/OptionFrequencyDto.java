@@ -0,0 +1,15 @@
+package org.skyline.mcq.application.dtos.output;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Builder
+@Getter @Setter
+public class OptionFrequencyDto {
+
+    private String option;
+    private Boolean correct;
+    private Long count;
+    private Double rate;
+}
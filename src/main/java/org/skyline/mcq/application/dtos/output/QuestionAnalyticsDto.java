@@ -0,0 +1,22 @@
+package org.skyline.mcq.application.dtos.output;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Getter @Setter
+public class QuestionAnalyticsDto {
+
+    private UUID questionId;
+    private Long responseCount;
+    private Double percentCorrect;
+    private Double discriminationIndex;
+    private Long unrecognizedSelections;
+    @Builder.Default
+    private List<OptionFrequencyDto> options = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package org.skyline.mcq.application.dtos.output;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+@JsonSerialize(using = RawJson.Serializer.class)
+public record RawJson(String value) {
+
+    public static class Serializer extends StdSerializer<RawJson> {
+
+        public Serializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public void serialize(RawJson rawJson, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeRawValue(rawJson.value());
+        }
+    }
+}
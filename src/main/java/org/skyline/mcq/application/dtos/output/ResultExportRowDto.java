@@ -0,0 +1,34 @@
+package org.skyline.mcq.application.dtos.output;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public record ResultExportRowDto(UUID id, UUID accountId, String username, Timestamp startTime, Timestamp endTime, Integer duration,
+                                 Integer totalPoints, Integer correctAnswers, Integer incorrectAnswers, Timestamp createdAt) {
+
+    public static final String[] HEADER = {
+            "result_id", "account_id", "username", "start_time", "end_time", "duration",
+            "total_points", "correct_answers", "incorrect_answers", "created_at"
+    };
+
+    public String[] toCsvLine() {
+        return new String[] {
+                String.valueOf(id), String.valueOf(accountId), text(username), format(startTime), format(endTime), format(duration),
+                format(totalPoints), format(correctAnswers), format(incorrectAnswers), format(createdAt)
+        };
+    }
+
+    /**
+     * Spreadsheets evaluate a cell starting with one of these characters as a formula, so user-supplied text
+     * gets a leading quote to keep it a plain value.
+     */
+    private static String text(String value) {
+        if (value == null || value.isEmpty()) return "";
+        return "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Timestamp timestamp) return timestamp.toInstant().toString();
+        return value == null ? "" : value.toString();
+    }
+}
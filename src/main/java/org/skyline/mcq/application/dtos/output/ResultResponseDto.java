@@ -3,6 +3,7 @@ package org.skyline.mcq.application.dtos.output;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.skyline.mcq.domain.enums.SubmissionStatus;
 
 import java.sql.Timestamp;
 import java.util.UUID;
@@ -20,4 +21,5 @@ public class ResultResponseDto {
     private Integer totalPoints;
     private Integer correctAnswers;
     private Integer incorrectAnswers;
+    private SubmissionStatus status;
 }
@@ -0,0 +1,8 @@
+package org.skyline.mcq.application.dtos.output;
+
+public record ScoreTallyDto(Integer score, Long attempts, Long durationSum) {
+
+    public static ScoreTallyDto of(Integer score, Integer duration) {
+        return new ScoreTallyDto(score, 1L, duration == null ? 0L : duration.longValue());
+    }
+}
@@ -0,0 +1,16 @@
+package org.skyline.mcq.application.dtos.output;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import org.skyline.mcq.domain.enums.SubmissionStatus;
+
+import java.util.UUID;
+
+@Builder
+@Getter @Setter
+public class SubmissionStatusDto {
+
+    private UUID resultId;
+    private SubmissionStatus status;
+}
@@ -0,0 +1,13 @@
+package org.skyline.mcq.application.dtos.output;
+
+import org.skyline.mcq.domain.models.Result;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public record SubmissionSummaryDto(UUID resultId, UUID accountId, Integer totalPoints, Integer duration, Timestamp createdAt) {
+
+    public static SubmissionSummaryDto of(Result result) {
+        return new SubmissionSummaryDto(result.getId(), result.getAccount().getId(), result.getTotalPoints(), result.getDuration(), result.getCreatedAt());
+    }
+}
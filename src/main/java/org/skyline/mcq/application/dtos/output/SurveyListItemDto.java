@@ -0,0 +1,9 @@
+package org.skyline.mcq.application.dtos.output;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public record SurveyListItemDto(UUID id, String title, String description, String image, Integer maxPoints,
+                                Integer timeLimit, Integer attempts, Boolean hasRestrictedAccess, Boolean status,
+                                Boolean active, UUID categoryId, String categoryTitle, UUID accountId,
+                                String accountUsername, Long questionCount, Timestamp createdAt) {}
@@ -0,0 +1,5 @@
+package org.skyline.mcq.application.dtos.output;
+
+import java.util.UUID;
+
+public record SurveySnapshot(UUID surveyId, long version, RawJson survey, RawJson questions) {}
@@ -0,0 +1,39 @@
+package org.skyline.mcq.application.dtos.output;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import org.skyline.mcq.domain.models.SurveyStats;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Getter @Setter
+public class SurveyStatsDto {
+
+    private UUID surveyId;
+    private Long attemptCount;
+    private Double meanScore;
+    private Integer minScore;
+    private Integer maxScore;
+    private Double meanDuration;
+    private List<Long> histogram;
+    private Timestamp updatedAt;
+
+    public static SurveyStatsDto of(SurveyStats stats) {
+        long attempts = stats.getAttemptCount();
+
+        return SurveyStatsDto.builder()
+                .surveyId(stats.getSurveyId())
+                .attemptCount(attempts)
+                .meanScore(attempts == 0 ? null : (double) stats.getScoreSum() / attempts)
+                .minScore(stats.getMinScore())
+                .maxScore(stats.getMaxScore())
+                .meanDuration(attempts == 0 ? null : (double) stats.getDurationSum() / attempts)
+                .histogram(stats.getHistogram())
+                .updatedAt(stats.getUpdatedAt())
+                .build();
+    }
+}
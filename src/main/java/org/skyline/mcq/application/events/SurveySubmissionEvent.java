@@ -0,0 +1,10 @@
+package org.skyline.mcq.application.events;
+
+import org.skyline.mcq.application.dtos.output.SubmissionSummaryDto;
+import org.skyline.mcq.application.dtos.output.SurveyStatsDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record SurveySubmissionEvent(UUID surveyId, SurveyStatsDto stats, List<SubmissionSummaryDto> submissions) {
+}
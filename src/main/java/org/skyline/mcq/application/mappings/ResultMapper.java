@@ -1,11 +1,13 @@
 package org.skyline.mcq.application.mappings;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.skyline.mcq.application.dtos.output.ResultResponseDto;
 import org.skyline.mcq.domain.models.Result;
 
 @Mapper(uses = {SurveyMapper.class, AccountMapper.class, AnswerMapper.class})
 public interface ResultMapper {
 
+    @Mapping(target = "status", constant = "PERSISTED")
     ResultResponseDto resultToResultResponseDto(Result result);
 }
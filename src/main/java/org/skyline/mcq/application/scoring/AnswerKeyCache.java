@@ -0,0 +1,36 @@
+package org.skyline.mcq.application.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.skyline.mcq.application.utils.CacheInvalidation;
+import org.skyline.mcq.infrastructure.outputport.QuestionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class AnswerKeyCache {
+
+    private final QuestionRepository questionRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, SurveyAnswerKey> cache;
+
+    public AnswerKeyCache(QuestionRepository questionRepository, ObjectMapper objectMapper,
+                          @Value("${answer-key-cache-size:1000}") long maximumSize) {
+        this.questionRepository = questionRepository;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public SurveyAnswerKey get(UUID surveyId) {
+        return cache.get(surveyId, id -> SurveyAnswerKey.of(id, questionRepository.findAllBySurveyId(id), objectMapper));
+    }
+
+    public void invalidate(UUID surveyId) {
+        CacheInvalidation.evictNowAndAfterCompletion(() -> cache.invalidate(surveyId));
+    }
+}
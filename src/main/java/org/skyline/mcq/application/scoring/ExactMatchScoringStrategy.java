@@ -0,0 +1,19 @@
+package org.skyline.mcq.application.scoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "scoring-strategy", havingValue = "exact-match")
+public class ExactMatchScoringStrategy implements ScoringStrategy {
+
+    @Override
+    public boolean isCorrect(QuestionAnswerKey questionKey, long selectedOptions) {
+        return questionKey.getCorrectCount() > 0 && selectedOptions == questionKey.getCorrectMask();
+    }
+
+    @Override
+    public double score(QuestionAnswerKey questionKey, long selectedOptions) {
+        return isCorrect(questionKey, selectedOptions) ? questionKey.getPoints() : 0;
+    }
+}
@@ -0,0 +1,24 @@
+package org.skyline.mcq.application.scoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "scoring-strategy", havingValue = "negative-marking")
+public class NegativeMarkingScoringStrategy implements ScoringStrategy {
+
+    @Override
+    public boolean isCorrect(QuestionAnswerKey questionKey, long selectedOptions) {
+        return questionKey.getCorrectCount() > 0 && selectedOptions == questionKey.getCorrectMask();
+    }
+
+    @Override
+    public double score(QuestionAnswerKey questionKey, long selectedOptions) {
+        if (questionKey.getCorrectCount() == 0) return 0;
+
+        // Every wrong selection takes back the credit of one right selection.
+        int correctCount = Long.bitCount(selectedOptions & questionKey.getCorrectMask());
+        int wrongCount = Long.bitCount(selectedOptions & ~questionKey.getCorrectMask());
+        return ((double) (correctCount - wrongCount) / questionKey.getCorrectCount()) * questionKey.getPoints();
+    }
+}
@@ -0,0 +1,22 @@
+package org.skyline.mcq.application.scoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "scoring-strategy", havingValue = "partial-credit", matchIfMissing = true)
+public class PartialCreditScoringStrategy implements ScoringStrategy {
+
+    @Override
+    public boolean isCorrect(QuestionAnswerKey questionKey, long selectedOptions) {
+        return Long.bitCount(selectedOptions & questionKey.getCorrectMask()) == questionKey.getAllowedAnswers();
+    }
+
+    @Override
+    public double score(QuestionAnswerKey questionKey, long selectedOptions) {
+        if (questionKey.getCorrectCount() == 0) return 0;
+
+        int correctCount = Long.bitCount(selectedOptions & questionKey.getCorrectMask());
+        return ((double) correctCount / questionKey.getCorrectCount()) * questionKey.getPoints();
+    }
+}
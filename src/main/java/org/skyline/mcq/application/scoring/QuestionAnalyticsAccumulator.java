@@ -0,0 +1,79 @@
+package org.skyline.mcq.application.scoring;
+
+import org.skyline.mcq.application.dtos.output.OptionFrequencyDto;
+import org.skyline.mcq.application.dtos.output.QuestionAnalyticsDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class QuestionAnalyticsAccumulator {
+
+    private final QuestionAnswerKey key;
+    private final long[] optionCounts;
+    private long responses;
+    private long correct;
+    private long unrecognized;
+    private double scoreSum;
+    private double scoreSquareSum;
+    private double correctScoreSum;
+
+    public QuestionAnalyticsAccumulator(QuestionAnswerKey key) {
+        this.key = key;
+        this.optionCounts = new long[key.getOptions().size()];
+    }
+
+    public void add(String userAnswers, boolean isCorrect, int totalScore) {
+        long selectedOptions = key.encode(userAnswers);
+
+        responses++;
+        scoreSum += totalScore;
+        scoreSquareSum += (double) totalScore * totalScore;
+        if (isCorrect) {
+            correct++;
+            correctScoreSum += totalScore;
+        }
+        if ((selectedOptions & QuestionAnswerKey.UNKNOWN_SELECTION) != 0) unrecognized++;
+
+        for (int index = 0; index < optionCounts.length; index++) {
+            if ((selectedOptions & (1L << index)) != 0) optionCounts[index]++;
+        }
+    }
+
+    public QuestionAnalyticsDto toDto() {
+        List<String> optionValues = key.getOptions();
+        List<OptionFrequencyDto> options = new ArrayList<>(optionCounts.length);
+
+        for (int index = 0; index < optionCounts.length; index++) {
+            options.add(OptionFrequencyDto.builder()
+                    .option(optionValues.get(index))
+                    .correct((key.getCorrectMask() & (1L << index)) != 0)
+                    .count(optionCounts[index])
+                    .rate(responses == 0 ? null : (double) optionCounts[index] / responses)
+                    .build());
+        }
+
+        return QuestionAnalyticsDto.builder()
+                .questionId(key.getQuestionId())
+                .responseCount(responses)
+                .percentCorrect(responses == 0 ? null : 100.0 * correct / responses)
+                .discriminationIndex(pointBiserial())
+                .unrecognizedSelections(unrecognized)
+                .options(options)
+                .build();
+    }
+
+    // Point-biserial correlation between answering this question correctly and the respondent's total score.
+    private Double pointBiserial() {
+        if (correct == 0 || correct == responses) return null;
+
+        double mean = scoreSum / responses;
+        double deviation = Math.sqrt(Math.max(0, scoreSquareSum / responses - mean * mean));
+        if (deviation == 0) return null;
+
+        double p = (double) correct / responses;
+        double correctMean = correctScoreSum / correct;
+        double incorrectMean = (scoreSum - correctScoreSum) / (responses - correct);
+
+        return (correctMean - incorrectMean) / deviation * Math.sqrt(p * (1 - p));
+    }
+}
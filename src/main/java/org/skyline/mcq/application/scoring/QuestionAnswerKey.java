@@ -0,0 +1,150 @@
+package org.skyline.mcq.application.scoring;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.skyline.mcq.domain.models.Question;
+
+import java.io.IOException;
+import java.util.*;
+
+@Getter
+public final class QuestionAnswerKey {
+
+    public static final int MAX_OPTIONS = Long.SIZE - 1;
+    public static final long UNKNOWN_SELECTION = 1L << MAX_OPTIONS;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final UUID questionId;
+    private final int points;
+    private final int allowedAnswers;
+    private final long correctMask;
+    private final int correctCount;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> optionIndex;
+
+    @Getter(AccessLevel.NONE)
+    private final String[] optionValues;
+
+    private QuestionAnswerKey(UUID questionId, int points, int allowedAnswers, Map<String, Integer> optionIndex, String[] optionValues, long correctMask) {
+        this.questionId = questionId;
+        this.points = points;
+        this.allowedAnswers = allowedAnswers;
+        this.optionIndex = optionIndex;
+        this.optionValues = optionValues;
+        this.correctMask = correctMask;
+        this.correctCount = Long.bitCount(correctMask);
+    }
+
+    public static QuestionAnswerKey of(Question question, ObjectMapper objectMapper) {
+        Map<String, String> options = readEntries(question.getOptions(), objectMapper);
+        Map<String, String> correctAnswers = readEntries(question.getCorrectAnswers(), objectMapper);
+        options.putAll(correctAnswers);
+
+        if (options.size() > MAX_OPTIONS) {
+            throw new IllegalArgumentException("Question " + question.getId() + " has more than " + MAX_OPTIONS + " options");
+        }
+
+        Map<String, Integer> optionIndex = new HashMap<>();
+        String[] optionValues = new String[options.size()];
+        long correctMask = 0;
+        int index = 0;
+
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            optionIndex.put(option.getKey(), index);
+            optionValues[index] = option.getValue();
+            if (correctAnswers.containsKey(option.getKey())) correctMask |= 1L << index;
+            index++;
+        }
+
+        return new QuestionAnswerKey(
+                question.getId(),
+                question.getPoints() != null ? question.getPoints() : 0,
+                question.getAllowedAnswers() != null ? question.getAllowedAnswers() : 0,
+                Map.copyOf(optionIndex),
+                optionValues,
+                correctMask
+        );
+    }
+
+    public List<String> getOptions() {
+        return List.of(optionValues);
+    }
+
+    public long bitOf(String option, String value) {
+        Integer index = optionIndex.get(option);
+        if (index == null || !optionValues[index].equals(value)) return UNKNOWN_SELECTION;
+
+        return 1L << index;
+    }
+
+    public long encode(String userAnswers) {
+        if (userAnswers == null) return 0;
+
+        long selectedOptions = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(userAnswers)) {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String option = parser.currentName();
+                    selectedOptions |= parser.nextToken().isScalarValue() ? bitOf(option, parser.getText()) : skip(parser);
+                }
+            } else if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                    selectedOptions |= token.isScalarValue() ? bitOf(parser.getText(), parser.getText()) : skip(parser);
+                }
+            } else if (token != null) {
+                selectedOptions |= UNKNOWN_SELECTION;
+            }
+        } catch (IOException e) {
+            return UNKNOWN_SELECTION;
+        }
+
+        return selectedOptions;
+    }
+
+    private static long skip(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return UNKNOWN_SELECTION;
+    }
+
+    /**
+     * The option keys {@link #of} reads from a question's {@code options} or {@code correctAnswers} JSON:
+     * the field names of an object, or the elements of an array.
+     */
+    public static Set<String> optionKeys(String json, ObjectMapper objectMapper) {
+        return readEntries(json, objectMapper).keySet();
+    }
+
+    private static Map<String, String> readEntries(String json, ObjectMapper objectMapper) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        if (json == null) return entries;
+
+        try {
+            JsonNode node = objectMapper.readTree(json);
+
+            if (node.isObject()) {
+                node.fields().forEachRemaining(field -> entries.put(field.getKey(), asText(field.getValue())));
+            } else if (node.isArray()) {
+                node.forEach(element -> entries.put(asText(element), asText(element)));
+            }
+        } catch (JsonProcessingException e) {
+            return entries;
+        }
+
+        return entries;
+    }
+
+    static String asText(JsonNode node) {
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package org.skyline.mcq.application.scoring;
+
+public interface ScoringStrategy {
+
+    boolean isCorrect(QuestionAnswerKey questionKey, long selectedOptions);
+    double score(QuestionAnswerKey questionKey, long selectedOptions);
+}
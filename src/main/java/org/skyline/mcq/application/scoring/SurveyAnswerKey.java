@@ -0,0 +1,37 @@
+package org.skyline.mcq.application.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.skyline.mcq.domain.models.Question;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public final class SurveyAnswerKey {
+
+    private final UUID surveyId;
+    private final Map<UUID, QuestionAnswerKey> questions;
+
+    private SurveyAnswerKey(UUID surveyId, Map<UUID, QuestionAnswerKey> questions) {
+        this.surveyId = surveyId;
+        this.questions = questions;
+    }
+
+    public static SurveyAnswerKey of(UUID surveyId, Collection<Question> questions, ObjectMapper objectMapper) {
+        return new SurveyAnswerKey(surveyId, questions.stream()
+                .map(question -> QuestionAnswerKey.of(question, objectMapper))
+                .collect(Collectors.toUnmodifiableMap(QuestionAnswerKey::getQuestionId, Function.identity())));
+    }
+
+    public QuestionAnswerKey getQuestion(UUID questionId) {
+        return questions.get(questionId);
+    }
+
+    public int size() {
+        return questions.size();
+    }
+}
@@ -2,11 +2,13 @@ package org.skyline.mcq.application.usecases;
 
 import lombok.RequiredArgsConstructor;
 import org.skyline.mcq.application.dtos.output.AnswerResponseDto;
+import org.skyline.mcq.application.dtos.output.CursorSlice;
 import org.skyline.mcq.application.mappings.AnswerMapper;
 import org.skyline.mcq.application.utils.PaginationHelper;
 import org.skyline.mcq.domain.models.Answer;
 import org.skyline.mcq.infrastructure.inputport.AnswerInputPort;
 import org.skyline.mcq.infrastructure.outputport.AnswerRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,4 +35,11 @@ public class AnswerService implements AnswerInputPort {
         return answerRepository.findAllByResultId(resultId , paginationHelper.buildPageRequest(pageNumber, pageSize))
                 .map(answerMapper::answerToAnswerResponseDto);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<AnswerResponseDto> scrollAnswerByResultId(UUID resultId, String after, Integer pageSize) {
+        return paginationHelper.buildSlice(answerRepository.findAllByResultId(resultId, paginationHelper.buildScrollPosition(after),
+                Limit.of(paginationHelper.resolvePageSize(pageSize)), PaginationHelper.KEYSET_SORT), pageSize, answerMapper::answerToAnswerResponseDto);
+    }
 }
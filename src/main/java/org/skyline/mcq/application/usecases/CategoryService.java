@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.skyline.mcq.application.dtos.input.CategoryRequestDto;
 import org.skyline.mcq.application.dtos.output.CategoryResponseDto;
 import org.skyline.mcq.application.mappings.CategoryMapper;
+import org.skyline.mcq.application.utils.PageCountCache;
 import org.skyline.mcq.application.utils.PaginationHelper;
 import org.skyline.mcq.domain.models.Account;
 import org.skyline.mcq.domain.models.Category;
@@ -29,6 +30,7 @@ public class CategoryService implements CategoryInputPort {
     private final AccountRepository accountRepository;
     private final CategoryMapper categoryMapper;
     private final PaginationHelper paginationHelper;
+    private final PageCountCache pageCountCache;
 
     @Override
     @Transactional
@@ -39,6 +41,7 @@ public class CategoryService implements CategoryInputPort {
 
         Category newCategory = categoryMapper.categoryRequestDtoToCategory(category);
         newCategory.setAccount(account.get());
+        pageCountCache.invalidate(Category.class);
 
         return Optional.of(categoryMapper.categoryToCategoryResponseDto(categoryRepository.save(newCategory)));
     }
@@ -56,7 +59,8 @@ public class CategoryService implements CategoryInputPort {
         } else if (StringUtils.hasText(title) && isActive != null) {
             categoryPage = listCategoryByTitle(title, isActive, pageRequest);
         } else if (isActive != null) {
-            categoryPage = categoryRepository.findAllByActive(isActive, pageRequest);
+            categoryPage = pageCountCache.page(categoryRepository.findListByActive(isActive, pageRequest), pageRequest,
+                    Category.class, "active", () -> categoryRepository.countByActive(isActive), isActive);
         }
 
         if (categoryPage == null || categoryPage.isEmpty()) {
@@ -76,6 +80,7 @@ public class CategoryService implements CategoryInputPort {
             if (Boolean.TRUE.equals(foundCategory.getActive())) {
                 categoryMapper.updateCategoryFromCategoryRequestDto(category, foundCategory);
                 Category updatedCategory = categoryRepository.save(foundCategory);
+                pageCountCache.invalidate(Category.class);
                 CategoryResponseDto responseDto = categoryMapper.categoryToCategoryResponseDto(updatedCategory);
 
                 atomicReference.set(Optional.of(responseDto));
@@ -96,6 +101,7 @@ public class CategoryService implements CategoryInputPort {
         if (category.isPresent() && Boolean.TRUE.equals(category.get().getActive())) {
             category.get().setActive(false);
             categoryRepository.save(category.get());
+            pageCountCache.invalidate(Category.class);
             return true;
         }
 
@@ -103,10 +109,13 @@ public class CategoryService implements CategoryInputPort {
     }
 
     public Page<Category> listCategoryByAccountId(UUID id, Pageable pageable) {
-        return this.categoryRepository.findAllByAccountIdAndActiveIsTrue(id, pageable);
+        return pageCountCache.page(this.categoryRepository.findListByAccountIdAndActiveIsTrue(id, pageable), pageable,
+                Category.class, "account", () -> this.categoryRepository.countByAccountIdAndActiveIsTrue(id), id);
     }
 
     public Page<Category> listCategoryByTitle(String title, Boolean isActive, Pageable pageable) {
-        return this.categoryRepository.findAllByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", isActive, pageable);
+        String titlePattern = "%" + title + "%";
+        return pageCountCache.page(this.categoryRepository.findListByTitleIsLikeIgnoreCaseAndActive(titlePattern, isActive, pageable), pageable,
+                Category.class, "title", () -> this.categoryRepository.countByTitleIsLikeIgnoreCaseAndActive(titlePattern, isActive), titlePattern, isActive);
     }
 }
@@ -0,0 +1,53 @@
+package org.skyline.mcq.application.usecases;
+
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.output.AnswerSampleDto;
+import org.skyline.mcq.application.dtos.output.QuestionAnalyticsDto;
+import org.skyline.mcq.application.scoring.AnswerKeyCache;
+import org.skyline.mcq.application.scoring.QuestionAnalyticsAccumulator;
+import org.skyline.mcq.application.scoring.SurveyAnswerKey;
+import org.skyline.mcq.application.utils.QuestionAnalyticsCache;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.infrastructure.inputport.QuestionAnalyticsInputPort;
+import org.skyline.mcq.infrastructure.outputport.AnswerRepository;
+import org.skyline.mcq.infrastructure.outputport.SurveyRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class QuestionAnalyticsService implements QuestionAnalyticsInputPort {
+
+    private final SurveyRepository surveyRepository;
+    private final AnswerRepository answerRepository;
+    private final AnswerKeyCache answerKeyCache;
+    private final QuestionAnalyticsCache questionAnalyticsCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<List<QuestionAnalyticsDto>> findQuestionAnalytics(UUID surveyId, UUID accountId) {
+        return surveyRepository.findByIdAndAccountId(surveyId, accountId).filter(Survey::getActive)
+                .map(survey -> questionAnalyticsCache.get(surveyId, this::computeQuestionAnalytics));
+    }
+
+    List<QuestionAnalyticsDto> computeQuestionAnalytics(UUID surveyId) {
+        SurveyAnswerKey answerKey = answerKeyCache.get(surveyId);
+        Map<UUID, QuestionAnalyticsAccumulator> accumulators = new TreeMap<>();
+        answerKey.getQuestions().forEach((questionId, questionKey) -> accumulators.put(questionId, new QuestionAnalyticsAccumulator(questionKey)));
+
+        try (Stream<AnswerSampleDto> samples = answerRepository.streamSamplesBySurveyId(surveyId)) {
+            samples.forEach(sample -> {
+                QuestionAnalyticsAccumulator accumulator = accumulators.get(sample.questionId());
+                if (accumulator == null) return;
+
+                accumulator.add(sample.userAnswers(), Boolean.TRUE.equals(sample.isCorrect()),
+                        sample.totalPoints() == null ? 0 : sample.totalPoints());
+            });
+        }
+
+        return accumulators.values().stream().map(QuestionAnalyticsAccumulator::toDto).toList();
+    }
+}
@@ -5,6 +5,9 @@ import org.skyline.mcq.application.dtos.input.QuestionRequestDto;
 import org.skyline.mcq.application.dtos.input.QuestionUpdateRequestDto;
 import org.skyline.mcq.application.dtos.output.QuestionResponseDto;
 import org.skyline.mcq.application.mappings.QuestionMapper;
+import org.skyline.mcq.application.scoring.AnswerKeyCache;
+import org.skyline.mcq.application.utils.QuestionAnalyticsCache;
+import org.skyline.mcq.application.utils.SurveySnapshotCache;
 import org.skyline.mcq.domain.models.Question;
 import org.skyline.mcq.domain.models.Survey;
 import org.skyline.mcq.infrastructure.inputport.QuestionInputPort;
@@ -23,6 +26,9 @@ public class QuestionService implements QuestionInputPort {
     private final QuestionRepository questionRepository;
     private final SurveyRepository surveyRepository;
     private final QuestionMapper questionMapper;
+    private final AnswerKeyCache answerKeyCache;
+    private final SurveySnapshotCache surveySnapshotCache;
+    private final QuestionAnalyticsCache questionAnalyticsCache;
 
     @Override
     @Transactional
@@ -34,6 +40,9 @@ public class QuestionService implements QuestionInputPort {
 
         Question newQuestion = questionMapper.questionRequestDtoToQuestion(question);
         newQuestion.setSurvey(survey.get());
+        answerKeyCache.invalidate(survey.get().getId());
+        surveySnapshotCache.invalidate(survey.get().getId());
+        questionAnalyticsCache.invalidate(survey.get().getId());
 
         return Optional.of(questionMapper.questionToQuestionResponseDto(questionRepository.save(newQuestion)));
     }
@@ -57,6 +66,9 @@ public class QuestionService implements QuestionInputPort {
 
         return questionRepository.findById(uuid).map(questionFound -> {
             questionMapper.updateQuestionFromQuestionRequestDto(question, questionFound);
+            answerKeyCache.invalidate(questionFound.getSurvey().getId());
+            surveySnapshotCache.invalidate(questionFound.getSurvey().getId());
+            questionAnalyticsCache.invalidate(questionFound.getSurvey().getId());
             return questionMapper.questionToQuestionResponseDto(questionRepository.save(questionFound));
         });
     }
@@ -67,6 +79,9 @@ public class QuestionService implements QuestionInputPort {
 
         return questionRepository.findByIdAndSurveyAccountId(id, accountId).map(questionFound -> {
             questionRepository.delete(questionFound);
+            answerKeyCache.invalidate(questionFound.getSurvey().getId());
+            surveySnapshotCache.invalidate(questionFound.getSurvey().getId());
+            questionAnalyticsCache.invalidate(questionFound.getSurvey().getId());
             return true;
         }).orElse(false);
     }
@@ -1,31 +1,46 @@
 package org.skyline.mcq.application.usecases;
 
+import com.opencsv.CSVWriter;
 import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.output.CursorSlice;
+import org.skyline.mcq.application.dtos.output.ResultExportRowDto;
 import org.skyline.mcq.application.dtos.output.ResultResponseDto;
 import org.skyline.mcq.application.mappings.ResultMapper;
+import org.skyline.mcq.application.utils.PageCountCache;
 import org.skyline.mcq.application.utils.PaginationHelper;
 import org.skyline.mcq.domain.models.Result;
 import org.skyline.mcq.infrastructure.inputport.ResultInputPort;
 import org.skyline.mcq.infrastructure.outputport.ResultRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ResultService implements ResultInputPort {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     private final ResultRepository resultRepository;
     private final ResultMapper resultMapper;
     private final PaginationHelper paginationHelper;
+    private final PageCountCache pageCountCache;
 
     @Override
     @Transactional
     public ResultResponseDto saveResult(Result result) {
-        return resultMapper.resultToResultResponseDto(this.resultRepository.save(result));
+        ResultResponseDto resultResponseDto = resultMapper.resultToResultResponseDto(this.resultRepository.save(result));
+        pageCountCache.invalidate(Result.class);
+        return resultResponseDto;
     }
 
     @Override
@@ -38,21 +53,67 @@ public class ResultService implements ResultInputPort {
     @Override
     @Transactional(readOnly = true)
     public Page<ResultResponseDto> listResultBySurveyId(UUID surveyId, Integer pageNumber, Integer pageSize) {
-        return resultRepository.findAllByAccountId(surveyId, paginationHelper.buildPageRequest(pageNumber, pageSize))
+        PageRequest pageRequest = paginationHelper.buildPageRequest(pageNumber, pageSize);
+        return pageCountCache.page(resultRepository.findListBySurveyId(surveyId, pageRequest), pageRequest,
+                        Result.class, "survey", () -> resultRepository.countBySurveyId(surveyId), surveyId)
                 .map(resultMapper::resultToResultResponseDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ResultResponseDto> listResultByAccountId(UUID accountId, Integer pageNumber, Integer pageSize) {
-        return resultRepository.findAllByAccountId(accountId, paginationHelper.buildPageRequest(pageNumber, pageSize))
+        PageRequest pageRequest = paginationHelper.buildPageRequest(pageNumber, pageSize);
+        return pageCountCache.page(resultRepository.findListByAccountId(accountId, pageRequest), pageRequest,
+                        Result.class, "account", () -> resultRepository.countByAccountId(accountId), accountId)
                 .map(resultMapper::resultToResultResponseDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ResultResponseDto> listResultBySurveyIdAndAccountId(UUID surveyId, UUID accountId, Integer pageNumber, Integer pageSize) {
-        return resultRepository.findAllByAccountIdAndSurveyId(accountId, surveyId, paginationHelper.buildPageRequest(pageNumber, pageSize))
+        PageRequest pageRequest = paginationHelper.buildPageRequest(pageNumber, pageSize);
+        return pageCountCache.page(resultRepository.findListByAccountIdAndSurveyId(accountId, surveyId, pageRequest), pageRequest,
+                        Result.class, "account-survey", () -> resultRepository.countByAccountIdAndSurveyId(accountId, surveyId), accountId, surveyId)
                 .map(resultMapper::resultToResultResponseDto);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ResultResponseDto> scrollResultBySurveyId(UUID surveyId, String after, Integer pageSize) {
+        return paginationHelper.buildSlice(resultRepository.findAllBySurveyId(surveyId, paginationHelper.buildScrollPosition(after),
+                Limit.of(paginationHelper.resolvePageSize(pageSize)), PaginationHelper.KEYSET_SORT), pageSize, resultMapper::resultToResultResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ResultResponseDto> scrollResultByAccountId(UUID accountId, String after, Integer pageSize) {
+        return paginationHelper.buildSlice(resultRepository.findAllByAccountId(accountId, paginationHelper.buildScrollPosition(after),
+                Limit.of(paginationHelper.resolvePageSize(pageSize)), PaginationHelper.KEYSET_SORT), pageSize, resultMapper::resultToResultResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ResultResponseDto> scrollResultBySurveyIdAndAccountId(UUID surveyId, UUID accountId, String after, Integer pageSize) {
+        return paginationHelper.buildSlice(resultRepository.findAllByAccountIdAndSurveyId(accountId, surveyId, paginationHelper.buildScrollPosition(after),
+                Limit.of(paginationHelper.resolvePageSize(pageSize)), PaginationHelper.KEYSET_SORT), pageSize, resultMapper::resultToResultResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportResultsBySurveyId(UUID surveyId, Writer writer) throws IOException {
+        try (CSVWriter csvWriter = new CSVWriter(writer);
+             Stream<ResultExportRowDto> rows = resultRepository.streamExportRowsBySurveyId(surveyId)) {
+            csvWriter.writeNext(ResultExportRowDto.HEADER, false);
+
+            Iterator<ResultExportRowDto> iterator = rows.iterator();
+            for (int written = 1; iterator.hasNext(); written++) {
+                csvWriter.writeNext(iterator.next().toCsvLine(), false);
+
+                // Push rows out as we go and stop reading the cursor once the client has gone away.
+                if (written % EXPORT_FLUSH_INTERVAL == 0 && csvWriter.checkError()) {
+                    throw new IOException("Result export for survey " + surveyId + " was aborted by the client");
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,148 @@
+package org.skyline.mcq.application.usecases;
+
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.input.AnswersDto;
+import org.skyline.mcq.application.dtos.input.SurveyAnswersDto;
+import org.skyline.mcq.application.dtos.output.ResultResponseDto;
+import org.skyline.mcq.application.dtos.output.SubmissionSummaryDto;
+import org.skyline.mcq.application.dtos.output.SubmissionStatusDto;
+import org.skyline.mcq.application.mappings.ResultMapper;
+import org.skyline.mcq.application.scoring.AnswerKeyCache;
+import org.skyline.mcq.application.scoring.QuestionAnswerKey;
+import org.skyline.mcq.application.scoring.ScoringStrategy;
+import org.skyline.mcq.application.scoring.SurveyAnswerKey;
+import org.skyline.mcq.application.utils.PageCountCache;
+import org.skyline.mcq.application.utils.SurveyAttemptCounter;
+import org.skyline.mcq.application.utils.SurveyStatsRecorder;
+import org.skyline.mcq.domain.enums.SubmissionStatus;
+import org.skyline.mcq.domain.exceptions.ConflictException;
+import org.skyline.mcq.domain.exceptions.NotFoundException;
+import org.skyline.mcq.domain.models.Account;
+import org.skyline.mcq.domain.models.Answer;
+import org.skyline.mcq.domain.models.Result;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.infrastructure.inputport.SubmissionInputPort;
+import org.skyline.mcq.infrastructure.outputport.AccountRepository;
+import org.skyline.mcq.infrastructure.outputport.QuestionRepository;
+import org.skyline.mcq.infrastructure.outputport.ResultWriter;
+import org.skyline.mcq.infrastructure.outputport.SurveyRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SubmissionService implements SubmissionInputPort {
+
+    private final SurveyRepository surveyRepository;
+    private final AccountRepository accountRepository;
+    private final QuestionRepository questionRepository;
+    private final ResultWriter resultWriter;
+    private final ResultMapper resultMapper;
+    private final AnswerKeyCache answerKeyCache;
+    private final ScoringStrategy scoringStrategy;
+    private final PageCountCache pageCountCache;
+    private final SurveyStatsRecorder surveyStatsRecorder;
+    private final SurveyAttemptCounter surveyAttemptCounter;
+
+    @Override
+    @Transactional
+    public ResultResponseDto submitSurvey(SurveyAnswersDto surveyAnswersDto, UUID accountId) {
+        UUID surveyId = surveyAnswersDto.getSurveyId();
+        Survey survey = surveyRepository.findWithQuestionsById(surveyId).filter(Survey::getActive)
+                .orElseThrow(() -> new NotFoundException("Survey", surveyId.toString(), "Please provide a valid survey ID"));
+
+        long durationMillis = Timestamp.valueOf(surveyAnswersDto.getEndTime()).getTime() - Timestamp.valueOf(surveyAnswersDto.getStartTime()).getTime();
+        if (survey.getTimeLimit() != null && durationMillis > survey.getTimeLimit()) {
+            throw new ConflictException("Survey", surveyId.toString(), "Survey time limit exceeded");
+        }
+
+        Account account = accountRepository.findById(accountId).filter(Account::getActive)
+                .orElseThrow(() -> new ConflictException("Account", accountId.toString(), "Account is inactive"));
+        surveyAttemptCounter.reserve(accountId, survey);
+
+        Result result = calculationResult(surveyAnswersDto, account, survey);
+        result.setAccount(account);
+        result.setSurvey(survey);
+
+        SubmissionStatus status = resultWriter.write(result);
+        if (status == SubmissionStatus.PERSISTED) {
+            surveyStatsRecorder.record(surveyId, List.of(SubmissionSummaryDto.of(result)));
+        }
+        pageCountCache.invalidate(Result.class);
+        ResultResponseDto resultResponseDto = resultMapper.resultToResultResponseDto(result);
+        resultResponseDto.setStatus(status);
+
+        return resultResponseDto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SubmissionStatusDto> findSubmissionStatus(UUID resultId, UUID accountId) {
+        return resultWriter.findStatus(resultId, accountId).map(status -> SubmissionStatusDto.builder()
+                .resultId(resultId)
+                .status(status)
+                .build());
+    }
+
+    Result calculationResult(SurveyAnswersDto surveyAnswersDto, Account account, Survey survey) {
+        double maximumPoints = 0;
+        int correctQuestion = 0;
+        int incorrectAnswers = 0;
+        Set<Answer> userAnswers = new HashSet<>();
+        SurveyAnswerKey answerKey = answerKeyCache.get(survey.getId());
+
+        List<UUID> foreignQuestionIds = surveyAnswersDto.getAnswers().stream().map(AnswersDto::getQuestionId)
+                .filter(questionId -> answerKey.getQuestion(questionId) == null)
+                .toList();
+        if (!foreignQuestionIds.isEmpty()) {
+            throw new ConflictException("Survey", survey.getId().toString(), "Answers reference questions that do not belong to this survey: " + foreignQuestionIds);
+        }
+
+        for (AnswersDto answer : surveyAnswersDto.getAnswers()) {
+            QuestionAnswerKey questionKey = answerKey.getQuestion(answer.getQuestionId());
+
+            long selectedOptions = questionKey.encode(answer.getUserAnswers());
+            boolean isCorrect = scoringStrategy.isCorrect(questionKey, selectedOptions);
+
+            if (isCorrect) correctQuestion++;
+            if ((selectedOptions & questionKey.getCorrectMask()) == 0) incorrectAnswers++;
+
+            double currentPoint = scoringStrategy.score(questionKey, selectedOptions);
+            maximumPoints += currentPoint;
+
+            userAnswers.add(
+                Answer.builder()
+                    .account(account)
+                    .question(questionRepository.getReferenceById(questionKey.getQuestionId()))
+                    .userAnswers(answer.getUserAnswers())
+                    .isCorrect(isCorrect)
+                    .points((int) currentPoint)
+                    .build()
+            );
+        }
+
+        Timestamp startTime = Timestamp.valueOf(surveyAnswersDto.getStartTime());
+        Timestamp endTime = Timestamp.valueOf(surveyAnswersDto.getEndTime());
+        Integer durationMillis = Math.toIntExact(endTime.getTime() - startTime.getTime());
+
+        Result result = Result.builder()
+                .startTime(startTime)
+                .endTime(endTime)
+                .duration(durationMillis)
+                .totalPoints((int) maximumPoints)
+                .correctAnswers(correctQuestion)
+                .incorrectAnswers(incorrectAnswers)
+                .answers(userAnswers)
+                .build();
+        userAnswers.forEach(answer -> answer.setResult(result));
+
+        return result;
+    }
+}
@@ -1,29 +1,30 @@
 package org.skyline.mcq.application.usecases;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.skyline.mcq.application.dtos.input.AnswersDto;
-import org.skyline.mcq.application.dtos.input.SurveyAnswersDto;
 import org.skyline.mcq.application.dtos.input.SurveyRequestDto;
 import org.skyline.mcq.application.dtos.input.SurveyUpdateRequestDto;
 import org.skyline.mcq.application.dtos.output.AccountSummaryDto;
-import org.skyline.mcq.application.dtos.output.ResultResponseDto;
+import org.skyline.mcq.application.dtos.output.CursorSlice;
+import org.skyline.mcq.application.dtos.output.SurveyListItemDto;
 import org.skyline.mcq.application.dtos.output.SurveyResponseDto;
 import org.skyline.mcq.application.mappings.AccountMapper;
-import org.skyline.mcq.application.mappings.ResultMapper;
 import org.skyline.mcq.application.mappings.SurveyMapper;
+import org.skyline.mcq.application.utils.PageCountCache;
 import org.skyline.mcq.application.utils.PaginationHelper;
+import org.skyline.mcq.application.utils.SurveySnapshotCache;
 import org.skyline.mcq.domain.models.*;
+import org.skyline.mcq.domain.specification.SurveyFilter;
 import org.skyline.mcq.domain.specification.SurveySpecifications;
 import org.skyline.mcq.infrastructure.inputport.SurveyInputPort;
 import org.skyline.mcq.infrastructure.outputport.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.sql.Timestamp;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -34,13 +35,11 @@ public class SurveyService implements SurveyInputPort {
     private final SurveyRepository surveyRepository;
     private final AccountRepository accountRepository;
     private final CategoryRepository categoryRepository;
-    private final QuestionRepository questionRepository;
-    private final ResultRepository resultRepository;
     private final PaginationHelper paginationHelper;
     private final SurveyMapper surveyMapper;
     private final AccountMapper accountMapper;
-    private final ResultMapper resultMapper;
-    private final ObjectMapper objectMapper;
+    private final SurveySnapshotCache surveySnapshotCache;
+    private final PageCountCache pageCountCache;
 
     @Override
     @Transactional
@@ -55,7 +54,10 @@ public class SurveyService implements SurveyInputPort {
         newSurvey.setAccount(account.get());
         newSurvey.setCategory(category.get());
 
-        return Optional.of(surveyMapper.surveyToSurveyResponseDto(surveyRepository.save(newSurvey)));
+        Optional<SurveyResponseDto> savedSurvey = Optional.of(surveyMapper.surveyToSurveyResponseDto(surveyRepository.save(newSurvey)));
+        pageCountCache.invalidate(Survey.class);
+
+        return savedSurvey;
     }
 
     @Override
@@ -77,21 +79,44 @@ public class SurveyService implements SurveyInputPort {
     public Page<SurveyResponseDto> listSurveys(UUID categoryId, Boolean status, Boolean hasRestrictedAccess, UUID accountId, Boolean isActive, Integer pageNumber, Integer pageSize) {
 
         PageRequest pageRequest = paginationHelper.buildPageRequest(pageNumber, pageSize);
+        SurveyFilter filter = buildSurveyFilter(categoryId, status, hasRestrictedAccess, accountId, isActive);
+        Specification<Survey> specification = SurveySpecifications.matching(filter);
 
-        Specification<Survey> specification = Specification.where(SurveySpecifications.hasCategoryId(categoryId))
-                .and(SurveySpecifications.hasActive(isActive))
-                .and(SurveySpecifications.hasCategoryId(categoryId))
-                .and(SurveySpecifications.hasStatus(status))
-                .and(SurveySpecifications.hasRestrictedAccess(hasRestrictedAccess))
-                .and(SurveySpecifications.hasCategoryIdAndStatus(categoryId, status))
-                .and(SurveySpecifications.hasCategoryIdAndHasRestrictedAccess(categoryId, hasRestrictedAccess))
-                .and(SurveySpecifications.hasAccountIdAndIsActive(accountId, isActive));
+        List<Survey> surveys = surveyRepository.findBy(specification, query -> query
+                .limit(pageRequest.getPageSize())
+                .scroll(paginationHelper.buildOffsetPosition(pageRequest))).getContent();
 
-        Page<Survey> surveyPage = surveyRepository.findAll(specification, pageRequest);
+        Page<Survey> surveyPage = pageCountCache.page(surveys, pageRequest, Survey.class, "listing",
+                () -> surveyRepository.count(specification), filter);
 
         return surveyPage.map(surveyMapper::surveyToSurveyResponseDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SurveyListItemDto> listSurveySummaries(UUID categoryId, Boolean status, Boolean hasRestrictedAccess, UUID accountId, Boolean isActive, Integer pageNumber, Integer pageSize) {
+
+        PageRequest pageRequest = paginationHelper.buildPageRequest(pageNumber, pageSize);
+        SurveyFilter filter = buildSurveyFilter(categoryId, status, hasRestrictedAccess, accountId, isActive);
+
+        return pageCountCache.page(surveyRepository.findSurveyListItems(filter, pageRequest), pageRequest, Survey.class, "listing",
+                () -> surveyRepository.count(SurveySpecifications.matching(filter)), filter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<SurveyResponseDto> scrollSurveys(UUID categoryId, Boolean status, Boolean hasRestrictedAccess, UUID accountId, Boolean isActive, String after, Integer pageSize) {
+        ScrollPosition position = paginationHelper.buildScrollPosition(after);
+        Specification<Survey> specification = SurveySpecifications.matching(buildSurveyFilter(categoryId, status, hasRestrictedAccess, accountId, isActive));
+
+        Window<Survey> surveyWindow = surveyRepository.findBy(specification, query -> query
+                .sortBy(PaginationHelper.KEYSET_SORT)
+                .limit(paginationHelper.resolvePageSize(pageSize))
+                .scroll(position));
+
+        return paginationHelper.buildSlice(surveyWindow, pageSize, surveyMapper::surveyToSurveyResponseDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<AccountSummaryDto> listAccountsBySurveyIdAndSurveyActiveAndUserActive(UUID surveyId, Boolean isActiveSurvey, Boolean isActiveAccount, Integer pageNumber, Integer pageSize) {
@@ -110,6 +135,8 @@ public class SurveyService implements SurveyInputPort {
         surveyRepository.findByIdAndAccountId(id, accountId).ifPresentOrElse(surveyFound -> {
             if (Boolean.TRUE.equals(surveyFound.getActive())) {
                 surveyMapper.updateSurveyFromSurveyUpdateRequestDto(survey, surveyFound);
+                surveySnapshotCache.invalidate(id);
+                pageCountCache.invalidate(Survey.class);
                 SurveyResponseDto surveyResponseDto = surveyMapper.surveyToSurveyResponseDto(surveyRepository.save(surveyFound));
 
                 atomicReference.set(Optional.of(surveyResponseDto));
@@ -130,80 +157,21 @@ public class SurveyService implements SurveyInputPort {
         if (survey.isPresent() && Boolean.TRUE.equals(survey.get().getActive())) {
             survey.get().setActive(false);
             surveyRepository.save(survey.get());
+            surveySnapshotCache.invalidate(id);
+            pageCountCache.invalidate(Survey.class);
             return true;
         }
 
         return false;
     }
 
-    @Override
-    @Transactional
-    public Optional<ResultResponseDto> submitSurvey(SurveyAnswersDto surveyAnswersDto, UUID accountId) {
-        Optional<Survey> survey = surveyRepository.findById(surveyAnswersDto.getSurveyId()).filter(Survey::getActive);
-        Optional<Account> account = accountRepository.findById(accountId).filter(Account::getActive);
-
-        if (survey.isEmpty() || account.isEmpty()) return Optional.empty();
-
-        Result result = calculationResult(surveyAnswersDto, account.get());
-        result.setAccount(account.get());
-        result.setSurvey(survey.get());
-
-        return Optional.of(resultMapper.resultToResultResponseDto(resultRepository.save(result)));
-    }
-
-    private Result calculationResult(SurveyAnswersDto surveyAnswersDto, Account account) {
-        double maximumPoints = 0;
-        int correctQuestion = 0;
-        int incorrectAnswers = 0;
-        Set<Answer> userAnswers = new HashSet<>();
-        Optional<Question> optionalQuestion;
-
-        for (AnswersDto answer : surveyAnswersDto.getAnswers()) {
-            Map<String, Object> userAnswer = objectMapper.convertValue(answer.getUserAnswers(), Map.class);
-
-            optionalQuestion = questionRepository.findById(answer.getQuestionId());
-            if (optionalQuestion.isPresent()) {
-                Question question = optionalQuestion.get();
-                Map<String, Object> correctAnswers = objectMapper.convertValue(question.getCorrectAnswers(), Map.class);
-                int correctCount = 0;
-
-                for (Map.Entry<String, Object> entry : userAnswer.entrySet()) {
-                    String userOption = entry.getKey();
-                    Object userSelectedAnswer = entry.getValue();
-
-                    if (correctAnswers.containsKey(userOption) && correctAnswers.get(userOption).equals(userSelectedAnswer)) correctCount++;
-                }
-
-                if (correctCount == question.getAllowedAnswers()) correctQuestion++;
-                if (correctCount == 0) incorrectAnswers++;
-
-                double currentPoint = ((double) correctCount / correctAnswers.size()) * question.getPoints();
-                maximumPoints += currentPoint;
-
-                userAnswers.add(
-                    Answer.builder()
-                        .account(account)
-                        .question(question)
-                        .userAnswers(answer.getUserAnswers())
-                        .isCorrect(correctCount == question.getAllowedAnswers())
-                        .points((int) currentPoint)
-                        .build()
-                );
-            }
-        }
-
-        Timestamp startTime = Timestamp.valueOf(surveyAnswersDto.getStartTime());
-        Timestamp endTime = Timestamp.valueOf(surveyAnswersDto.getEndTime());
-        Integer durationMillis = Math.toIntExact(endTime.getTime() - startTime.getTime());
-
-        return Result.builder()
-                .startTime(startTime)
-                .endTime(endTime)
-                .duration(durationMillis)
-                .totalPoints((int) maximumPoints)
-                .correctAnswers(correctQuestion)
-                .incorrectAnswers(incorrectAnswers)
-                .answers(userAnswers)
+    private SurveyFilter buildSurveyFilter(UUID categoryId, Boolean status, Boolean hasRestrictedAccess, UUID accountId, Boolean isActive) {
+        return SurveyFilter.builder()
+                .categoryId(categoryId)
+                .status(status)
+                .hasRestrictedAccess(hasRestrictedAccess)
+                .accountId(accountId)
+                .isActive(isActive)
                 .build();
     }
 }
@@ -0,0 +1,30 @@
+package org.skyline.mcq.application.usecases;
+
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.output.CacheStatsDto;
+import org.skyline.mcq.application.dtos.output.SurveySnapshot;
+import org.skyline.mcq.application.utils.SurveySnapshotCache;
+import org.skyline.mcq.infrastructure.inputport.SurveyInputPort;
+import org.skyline.mcq.infrastructure.inputport.SurveySnapshotInputPort;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SurveySnapshotService implements SurveySnapshotInputPort {
+
+    private final SurveyInputPort surveyInputPort;
+    private final SurveySnapshotCache surveySnapshotCache;
+
+    @Override
+    public Optional<SurveySnapshot> findSurveySnapshot(UUID surveyId) {
+        return surveySnapshotCache.get(surveyId, surveyInputPort::findSurveyById);
+    }
+
+    @Override
+    public CacheStatsDto getCacheStats() {
+        return surveySnapshotCache.stats();
+    }
+}
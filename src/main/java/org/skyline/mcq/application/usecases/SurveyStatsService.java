@@ -0,0 +1,53 @@
+package org.skyline.mcq.application.usecases;
+
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.output.SurveyStatsDto;
+import org.skyline.mcq.application.utils.SurveyStatsRecorder;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.domain.models.SurveyStats;
+import org.skyline.mcq.infrastructure.inputport.SurveyStatsInputPort;
+import org.skyline.mcq.infrastructure.outputport.SurveyRepository;
+import org.skyline.mcq.infrastructure.outputport.SurveyStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SurveyStatsService implements SurveyStatsInputPort {
+
+    private final SurveyStatsRepository surveyStatsRepository;
+    private final SurveyRepository surveyRepository;
+    private final SurveyStatsRecorder surveyStatsRecorder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SurveyStatsDto> findSurveyStats(UUID surveyId, UUID accountId) {
+        return surveyRepository.findByIdAndAccountId(surveyId, accountId).filter(Survey::getActive)
+                .map(survey -> SurveyStatsDto.of(surveyStatsRepository.findById(surveyId)
+                        .orElseGet(() -> SurveyStats.builder().surveyId(surveyId).build())));
+    }
+
+    @Override
+    @Transactional
+    public Optional<SurveyStatsDto> rebuildSurveyStats(UUID surveyId) {
+        if (!surveyRepository.existsById(surveyId)) return Optional.empty();
+
+        return Optional.of(SurveyStatsDto.of(surveyStatsRepository.saveAndFlush(surveyStatsRecorder.rebuild(surveyId))));
+    }
+
+    @Override
+    public int rebuildAllSurveyStats() {
+        List<UUID> surveyIds = surveyRepository.findAllIds();
+
+        // One transaction per survey keeps each stats row locked only while its own results are aggregated.
+        surveyIds.forEach(surveyId -> transactionTemplate.executeWithoutResult(status -> surveyStatsRecorder.rebuild(surveyId)));
+
+        return surveyIds.size();
+    }
+}
@@ -0,0 +1,28 @@
+package org.skyline.mcq.application.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class CacheInvalidation {
+
+    private CacheInvalidation() {
+    }
+
+    /**
+     * Runs the eviction now and again once the surrounding transaction completes. A reader running alongside the
+     * writing transaction still sees the old rows and could re-cache them before the commit; the second pass drops
+     * that entry. Without a transaction the eviction runs once.
+     */
+    public static void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
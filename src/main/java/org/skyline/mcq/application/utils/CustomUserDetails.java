@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.skyline.mcq.application.dtos.output.AccountSummaryDto;
+import org.skyline.mcq.domain.enums.TypeRole;
 import org.skyline.mcq.domain.models.Account;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -46,6 +48,15 @@ public class CustomUserDetails implements UserDetails {
                 .build();
     }
 
+    public static CustomUserDetails build(AccountSummaryDto account, TypeRole role) {
+        return CustomUserDetails.builder()
+                .id(account.getId())
+                .email(account.getEmail())
+                .username(account.getUsername())
+                .authorities(List.of(new SimpleGrantedAuthority(role.name())))
+                .build();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -0,0 +1,47 @@
+package org.skyline.mcq.application.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import org.skyline.mcq.application.dtos.input.QuestionOptions;
+import org.skyline.mcq.application.scoring.QuestionAnswerKey;
+
+import java.lang.annotation.*;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Scoring keeps a question's options in a 64-bit mask, so the options and correct answers together may name
+ * at most {@link QuestionAnswerKey#MAX_OPTIONS} distinct keys. The violation is reported on {@code options}.
+ */
+@Documented
+@Constraint(validatedBy = OptionLimitValidator.class)
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptionLimit {
+    String message() default "A question can have at most " + QuestionAnswerKey.MAX_OPTIONS + " options.";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+}
+
+class OptionLimitValidator implements ConstraintValidator<OptionLimit, QuestionOptions> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public boolean isValid(QuestionOptions value, ConstraintValidatorContext context) {
+        if (value == null) return true;
+
+        Set<String> keys = new HashSet<>(QuestionAnswerKey.optionKeys(value.getOptions(), MAPPER));
+        keys.addAll(QuestionAnswerKey.optionKeys(value.getCorrectAnswers(), MAPPER));
+        if (keys.size() <= QuestionAnswerKey.MAX_OPTIONS) return true;
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("options")
+                .addConstraintViolation();
+        return false;
+    }
+}
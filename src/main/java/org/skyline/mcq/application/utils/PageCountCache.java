@@ -0,0 +1,56 @@
+package org.skyline.mcq.application.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class PageCountCache {
+
+    private final Cache<CountKey, Long> cache;
+    // One counter per entity class; bumping it orphans that entity's counts, which then age out of the cache.
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public PageCountCache(@Value("${page-count-cache-size:10000}") long maximumSize,
+                          @Value("${page-count-cache-ttl:5000}") long ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    public <T> Page<T> page(List<T> content, Pageable pageable, Class<?> entity, String query, LongSupplier counter, Object... filter) {
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entity, query, counter, filter));
+    }
+
+    public long count(Class<?> entity, String query, LongSupplier counter, Object... filter) {
+        return cache.get(new CountKey(entity, generation(entity).get(), query, Arrays.asList(filter)), key -> counter.getAsLong());
+    }
+
+    public void invalidate(Class<?> entity) {
+        CacheInvalidation.evictNowAndAfterCompletion(() -> evict(entity));
+    }
+
+    private void evict(Class<?> entity) {
+        generation(entity).incrementAndGet();
+    }
+
+    private AtomicLong generation(Class<?> entity) {
+        return generations.computeIfAbsent(entity, key -> new AtomicLong());
+    }
+
+    private record CountKey(Class<?> entity, long generation, String query, List<Object> filter) {
+    }
+}
@@ -1,18 +1,39 @@
 package org.skyline.mcq.application.utils;
 
+import org.skyline.mcq.application.dtos.output.CursorSlice;
+import org.skyline.mcq.domain.exceptions.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
 @Component
 public class PaginationHelper {
 
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_PAGE_SIZE = 25;
     private static final int MAX_PAGE_SIZE = 1000;
+    private static final String CREATED_AT_KEY = "createdAt";
+    private static final String ID_KEY = "id";
+    private static final String CURSOR_SEPARATOR = "|";
 
     public PageRequest buildPageRequest(Integer pageNumber, Integer pageSize) {
         int queryPageNumber;
-        int queryPageSize;
 
         if (pageNumber != null && pageNumber > 0) {
             queryPageNumber = pageNumber - 1;
@@ -20,16 +41,49 @@ public class PaginationHelper {
             queryPageNumber = DEFAULT_PAGE;
         }
 
+        return org.springframework.data.domain.PageRequest.of(queryPageNumber, resolvePageSize(pageSize));
+    }
+
+    public int resolvePageSize(Integer pageSize) {
         if (pageSize == null) {
-            queryPageSize = DEFAULT_PAGE_SIZE;
-        } else {
-            if (pageSize > MAX_PAGE_SIZE) {
-                queryPageSize = MAX_PAGE_SIZE;
-            } else {
-                queryPageSize = pageSize;
-            }
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
+    public ScrollPosition buildOffsetPosition(Pageable pageable) {
+        // An offset position points at the last row already read, so page N starts after row N * size - 1.
+        return pageable.getOffset() == 0 ? ScrollPosition.offset() : ScrollPosition.offset(pageable.getOffset() - 1);
+    }
+
+    public ScrollPosition buildScrollPosition(String after) {
+        if (after == null || after.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String cursor = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+            int separator = cursor.indexOf(CURSOR_SEPARATOR);
+            Timestamp createdAt = Timestamp.from(Instant.parse(cursor.substring(0, separator)));
+            UUID id = UUID.fromString(cursor.substring(separator + 1));
+
+            return ScrollPosition.forward(Map.of(CREATED_AT_KEY, createdAt, ID_KEY, id));
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("The 'after' cursor is not valid. Please use the nextCursor of a previous response");
+        }
+    }
+
+    public <T, R> CursorSlice<R> buildSlice(Window<T> window, Integer pageSize, Function<T, R> mapper) {
+        String nextCursor = null;
+
+        if (window.hasNext() && !window.isEmpty()) {
+            Map<String, Object> keys = ((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys();
+            String cursor = ((Date) keys.get(CREATED_AT_KEY)).toInstant() + CURSOR_SEPARATOR + keys.get(ID_KEY);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
         }
 
-        return org.springframework.data.domain.PageRequest.of(queryPageNumber, queryPageSize);
+        return new CursorSlice<>(window.getContent().stream().map(mapper).toList(),
+                PageRequest.ofSize(resolvePageSize(pageSize)).withSort(KEYSET_SORT), window.hasNext(), nextCursor);
     }
 }
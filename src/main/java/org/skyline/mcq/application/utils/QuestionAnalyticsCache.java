@@ -0,0 +1,34 @@
+package org.skyline.mcq.application.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.skyline.mcq.application.dtos.output.QuestionAnalyticsDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class QuestionAnalyticsCache {
+
+    private final Cache<UUID, List<QuestionAnalyticsDto>> cache;
+
+    public QuestionAnalyticsCache(@Value("${question-analytics-cache-size:1000}") long maximumSize,
+                                  @Value("${question-analytics-cache-ttl:300000}") long ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    public List<QuestionAnalyticsDto> get(UUID surveyId, Function<UUID, List<QuestionAnalyticsDto>> loader) {
+        return cache.get(surveyId, loader);
+    }
+
+    public void invalidate(UUID surveyId) {
+        CacheInvalidation.evictNowAndAfterCompletion(() -> cache.invalidate(surveyId));
+    }
+}
@@ -0,0 +1,69 @@
+package org.skyline.mcq.application.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.skyline.mcq.domain.exceptions.ConflictException;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.domain.models.SurveyAttemptId;
+import org.skyline.mcq.infrastructure.outputport.SurveyAttemptRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Component
+public class SurveyAttemptCounter {
+
+    private final SurveyAttemptRepository surveyAttemptRepository;
+    private final Cache<SurveyAttemptId, Integer> attempts;
+
+    public SurveyAttemptCounter(SurveyAttemptRepository surveyAttemptRepository,
+                                @Value("${survey-attempt-cache-size:100000}") long maximumSize,
+                                @Value("${survey-attempt-cache-ttl:600000}") long ttl) {
+        this.surveyAttemptRepository = surveyAttemptRepository;
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    public void reserve(UUID accountId, Survey survey) {
+        if (survey.getAttempts() == null || survey.getAttempts() <= 0) return;
+
+        SurveyAttemptId id = new SurveyAttemptId(accountId, survey.getId());
+        Integer cached = attempts.getIfPresent(id);
+        if (cached != null && cached >= survey.getAttempts()) throw exhausted(survey);
+
+        // The conditional update is the single check-and-increment; it waits on the counter row lock, so two
+        // concurrent submissions with one attempt left see one updated row between them.
+        surveyAttemptRepository.insertIfAbsent(accountId, survey.getId());
+        if (surveyAttemptRepository.incrementBelow(id, survey.getAttempts()) == 0) {
+            attempts.put(id, survey.getAttempts());
+            throw exhausted(survey);
+        }
+
+        cacheAfterCommit(id, surveyAttemptRepository.findAttemptCountById(id));
+    }
+
+    private void cacheAfterCommit(SurveyAttemptId id, int used) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            attempts.put(id, used);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                attempts.put(id, used);
+            }
+        });
+    }
+
+    private static ConflictException exhausted(Survey survey) {
+        return new ConflictException("Survey", survey.getId().toString(),
+                "The maximum of " + survey.getAttempts() + " attempts for this survey has been reached");
+    }
+}
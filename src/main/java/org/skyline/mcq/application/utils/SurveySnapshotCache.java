@@ -0,0 +1,90 @@
+package org.skyline.mcq.application.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.skyline.mcq.application.dtos.output.CacheStatsDto;
+import org.skyline.mcq.application.dtos.output.RawJson;
+import org.skyline.mcq.application.dtos.output.SurveyResponseDto;
+import org.skyline.mcq.application.dtos.output.SurveySnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class SurveySnapshotCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<SnapshotKey, SurveySnapshot> cache;
+    // Versions come from one clock, so a survey whose version was evicted gets a fresh one, never a reused one.
+    private final Cache<UUID, Long> versions;
+    private final AtomicLong clock = new AtomicLong();
+
+    public SurveySnapshotCache(ObjectMapper objectMapper,
+                               @Value("${survey-snapshot-cache-size:1000}") long maximumSize,
+                               @Value("${survey-snapshot-cache-ttl:600000}") long ttl) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    public Optional<SurveySnapshot> get(UUID surveyId, Function<UUID, Optional<SurveyResponseDto>> loader) {
+        long version = versions.get(surveyId, id -> clock.incrementAndGet());
+        return Optional.ofNullable(cache.get(new SnapshotKey(surveyId, version), key ->
+                loader.apply(surveyId).map(survey -> snapshot(survey, version)).orElse(null)));
+    }
+
+    public void invalidate(UUID surveyId) {
+        CacheInvalidation.evictNowAndAfterCompletion(() -> nextVersion(surveyId));
+    }
+
+    public CacheStatsDto stats() {
+        CacheStats stats = cache.stats();
+        return CacheStatsDto.builder()
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    long trackedVersions() {
+        versions.cleanUp();
+        return versions.estimatedSize();
+    }
+
+    private void nextVersion(UUID surveyId) {
+        Long previous = versions.asMap().put(surveyId, clock.incrementAndGet());
+        if (previous != null) cache.invalidate(new SnapshotKey(surveyId, previous));
+    }
+
+    private SurveySnapshot snapshot(SurveyResponseDto survey, long version) {
+        try {
+            return new SurveySnapshot(
+                    survey.getId(),
+                    version,
+                    new RawJson(objectMapper.writeValueAsString(survey)),
+                    new RawJson(objectMapper.writeValueAsString(survey.getQuestions()))
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize survey " + survey.getId(), e);
+        }
+    }
+
+    private record SnapshotKey(UUID surveyId, long version) {}
+}
@@ -0,0 +1,81 @@
+package org.skyline.mcq.application.utils;
+
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.output.ScoreTallyDto;
+import org.skyline.mcq.application.dtos.output.SubmissionSummaryDto;
+import org.skyline.mcq.application.dtos.output.SurveyStatsDto;
+import org.skyline.mcq.application.events.SurveySubmissionEvent;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.domain.models.SurveyStats;
+import org.skyline.mcq.infrastructure.outputport.ResultRepository;
+import org.skyline.mcq.infrastructure.outputport.SurveyRepository;
+import org.skyline.mcq.infrastructure.outputport.SurveyStatsRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class SurveyStatsRecorder {
+
+    private final SurveyStatsRepository surveyStatsRepository;
+    private final SurveyRepository surveyRepository;
+    private final ResultRepository resultRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SurveyStats record(UUID surveyId, List<SubmissionSummaryDto> submissions) {
+        SurveyStats stats = lockStats(surveyId);
+        apply(stats, submissions.stream().map(submission -> ScoreTallyDto.of(submission.totalPoints(), submission.duration())).toList());
+        eventPublisher.publishEvent(new SurveySubmissionEvent(surveyId, SurveyStatsDto.of(stats), submissions));
+        return stats;
+    }
+
+    public SurveyStats rebuild(UUID surveyId) {
+        SurveyStats stats = lockStats(surveyId);
+        stats.setAttemptCount(0L);
+        stats.setScoreSum(0L);
+        stats.setMinScore(null);
+        stats.setMaxScore(null);
+        stats.setDurationSum(0L);
+        stats.setHistogram(SurveyStats.builder().build().getHistogram());
+        apply(stats, resultRepository.tallyScoresBySurveyId(surveyId));
+        return stats;
+    }
+
+    static int bucketOf(int score, Integer maxPoints) {
+        if (maxPoints == null || maxPoints <= 0) return 0;
+        int bucket = (int) ((long) score * SurveyStats.HISTOGRAM_BUCKETS / maxPoints);
+        return Math.clamp(bucket, 0, SurveyStats.HISTOGRAM_BUCKETS - 1);
+    }
+
+    private void apply(SurveyStats stats, Collection<ScoreTallyDto> tallies) {
+        Integer maxPoints = surveyRepository.findById(stats.getSurveyId()).map(Survey::getMaxPoints).orElse(null);
+        List<Long> histogram = new ArrayList<>(stats.getHistogram());
+
+        for (ScoreTallyDto tally : tallies) {
+            int score = tally.score() == null ? 0 : tally.score();
+            stats.setAttemptCount(stats.getAttemptCount() + tally.attempts());
+            stats.setScoreSum(stats.getScoreSum() + score * tally.attempts());
+            stats.setDurationSum(stats.getDurationSum() + tally.durationSum());
+            stats.setMinScore(stats.getMinScore() == null ? score : Math.min(stats.getMinScore(), score));
+            stats.setMaxScore(stats.getMaxScore() == null ? score : Math.max(stats.getMaxScore(), score));
+            int bucket = bucketOf(score, maxPoints);
+            histogram.set(bucket, histogram.get(bucket) + tally.attempts());
+        }
+
+        stats.setHistogram(histogram);
+    }
+
+    private SurveyStats lockStats(UUID surveyId) {
+        return surveyStatsRepository.findLockedBySurveyId(surveyId).orElseGet(() -> {
+            // Holding the survey row lets only one of two concurrent first submissions create the stats row.
+            surveyRepository.findLockedById(surveyId);
+            return surveyStatsRepository.findLockedBySurveyId(surveyId)
+                    .orElseGet(() -> surveyStatsRepository.save(SurveyStats.builder().surveyId(surveyId).build()));
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package org.skyline.mcq.domain.enums;
+
+public enum SubmissionStatus {
+
+    PENDING,
+    PERSISTED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package org.skyline.mcq.domain.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.skyline.mcq.domain.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,7 @@ package org.skyline.mcq.domain.models;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -15,6 +16,10 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_account_username", columnNames = "username")
+})
 @Builder
 @Getter@Setter
 @NoArgsConstructor
@@ -23,18 +28,17 @@ public class Account {
 
     @Id
     @UuidGenerator
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @JdbcTypeCode(SqlTypes.BINARY)
     @GeneratedValue(generator = "UUID")
-    @Column(length = 36, columnDefinition = "varchar(36)", updatable = false, nullable = false)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID id;
 
     private String firstName;
     private String lastName;
 
-    @Column(unique = true, length = 20)
+    @Column(length = 20)
     private String username;
 
-    @Column(unique = true)
     private String email;
 
     @Column(length = 60)
@@ -46,6 +50,7 @@ public class Account {
     private Boolean active = true;
 
     @Builder.Default
+    @BatchSize(size = 50)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "account_role", joinColumns = @JoinColumn(name = "account_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id"))
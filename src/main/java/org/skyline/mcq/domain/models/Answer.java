@@ -6,11 +6,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
+import org.skyline.mcq.domain.utils.UuidV7Generator;
 
 import java.sql.Timestamp;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_answer_result_created_id", columnList = "result_id, created_at, id"))
 @Builder
 @Getter @Setter
 @NoArgsConstructor
@@ -18,10 +20,10 @@ import java.util.UUID;
 public class Answer {
 
     @Id
-    @UuidGenerator
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
     @GeneratedValue(generator = "UUID")
-    @Column(length = 36, columnDefinition = "varchar(36)", updatable = false, nullable = false)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID id;
 
     @ManyToOne
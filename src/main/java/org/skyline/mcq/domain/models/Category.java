@@ -16,6 +16,10 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_category_active_title", columnList = "active, title"),
+        @Index(name = "idx_category_account_active", columnList = "account_id, active")
+})
 @Builder
 @Getter @Setter
 @NoArgsConstructor
@@ -24,9 +28,9 @@ public class Category {
 
     @Id
     @UuidGenerator
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @JdbcTypeCode(SqlTypes.BINARY)
     @GeneratedValue(generator = "UUID")
-    @Column(length = 36, columnDefinition = "varchar(36)", updatable = false, nullable = false)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID id;
 
     private String title;
@@ -14,6 +14,7 @@ import java.util.UUID;
 
 @Data
 @Entity
+@Table(indexes = @Index(name = "idx_refresh_token_token", columnList = "token"))
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,15 +22,15 @@ public class RefreshToken {
 
     @Id
     @UuidGenerator
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @JdbcTypeCode(SqlTypes.BINARY)
     @GeneratedValue(generator = "UUID")
-    @Column(length = 36, columnDefinition = "varchar(36)", updatable = false, nullable = false)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID id;
 
     private String token;
 
     private Instant expiryDate;
 
-    @OneToOne
+    @OneToOne(optional = false)
     private Account account;
 }
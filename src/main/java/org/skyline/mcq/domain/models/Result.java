@@ -6,6 +6,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
+import org.skyline.mcq.domain.utils.UuidV7Generator;
 
 import java.sql.Timestamp;
 import java.util.HashSet;
@@ -13,6 +14,18 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@NamedEntityGraph(name = "Result.detail", attributeNodes = {
+        @NamedAttributeNode("account"),
+        @NamedAttributeNode(value = "survey", subgraph = "survey")
+}, subgraphs = @NamedSubgraph(name = "survey", attributeNodes = {
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode("account")
+}))
+@Table(indexes = {
+        @Index(name = "idx_result_account_survey", columnList = "account_id, survey_id"),
+        @Index(name = "idx_result_account_created_id", columnList = "account_id, created_at, id"),
+        @Index(name = "idx_result_survey_created_id", columnList = "survey_id, created_at, id")
+})
 @Builder
 @Getter @Setter
 @NoArgsConstructor
@@ -20,13 +33,13 @@ import java.util.UUID;
 public class Result {
 
     @Id
-    @UuidGenerator
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
     @GeneratedValue(generator = "UUID")
-    @Column(length = 36, columnDefinition = "varchar(36)", updatable = false, nullable = false)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(optional = false)
     private Account account;
 
     @ManyToOne
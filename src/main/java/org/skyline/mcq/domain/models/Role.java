@@ -12,6 +12,7 @@ import java.sql.Timestamp;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_role_name", columnList = "name"))
 @Builder
 @Getter @Setter
 @NoArgsConstructor
@@ -20,9 +21,9 @@ public class Role {
 
     @Id
     @UuidGenerator
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @JdbcTypeCode(SqlTypes.BINARY)
     @GeneratedValue(generator = "UUID")
-    @Column(length = 36, columnDefinition = "varchar(36)", updatable = false, nullable = false)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID id;
 
     @Enumerated(EnumType.STRING)
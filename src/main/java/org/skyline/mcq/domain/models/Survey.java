@@ -4,11 +4,13 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
+import org.skyline.mcq.domain.utils.UuidV7Generator;
 
 import java.sql.Timestamp;
 import java.util.HashSet;
@@ -16,6 +18,11 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_survey_listing", columnList = "active, status, is_public, category_id"),
+        @Index(name = "idx_survey_account_active", columnList = "account_id, active"),
+        @Index(name = "idx_survey_created_id", columnList = "created_at, id")
+})
 @Builder
 @Getter @Setter
 @NoArgsConstructor
@@ -23,10 +30,10 @@ import java.util.UUID;
 public class Survey {
 
     @Id
-    @UuidGenerator
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
     @GeneratedValue(generator = "UUID")
-    @Column(length = 36, columnDefinition = "varchar(36)", updatable = false, nullable = false)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID id;
 
     private String title;
@@ -61,6 +68,7 @@ public class Survey {
 
     @Builder.Default
     @JsonManagedReference
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "survey")
     private Set<Question> questions = new HashSet<>();
 
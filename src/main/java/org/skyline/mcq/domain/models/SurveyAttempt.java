@@ -0,0 +1,25 @@
+package org.skyline.mcq.domain.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.sql.Timestamp;
+
+@Entity
+@Builder
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyAttempt {
+
+    @EmbeddedId
+    private SurveyAttemptId id;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attemptCount = 0;
+
+    @UpdateTimestamp
+    private Timestamp updatedAt;
+}
@@ -0,0 +1,26 @@
+package org.skyline.mcq.domain.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter @Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyAttemptId implements Serializable {
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
+    private UUID accountId;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
+    private UUID surveyId;
+}
@@ -0,0 +1,46 @@
+package org.skyline.mcq.domain.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@Entity
+@Builder
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyStats {
+
+    public static final int HISTOGRAM_BUCKETS = 10;
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
+    private UUID surveyId;
+
+    @Builder.Default
+    private Long attemptCount = 0L;
+
+    @Builder.Default
+    private Long scoreSum = 0L;
+
+    private Integer minScore;
+    private Integer maxScore;
+
+    @Builder.Default
+    private Long durationSum = 0L;
+
+    @Builder.Default
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<Long> histogram = Collections.nCopies(HISTOGRAM_BUCKETS, 0L);
+
+    @UpdateTimestamp
+    private Timestamp updatedAt;
+}
@@ -0,0 +1,9 @@
+package org.skyline.mcq.domain.specification;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record SurveyFilter(UUID categoryId, Boolean status, Boolean hasRestrictedAccess, UUID accountId, Boolean isActive) {
+}
@@ -10,6 +10,38 @@ import java.util.UUID;
 
 public class SurveySpecifications {
 
+    public static Specification<Survey> matching(SurveyFilter filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.categoryId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("category").get("id"), filter.categoryId()));
+            }
+
+            if (filter.accountId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("account").get("id"), filter.accountId()));
+            }
+
+            if (filter.isActive() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("active"), filter.isActive()));
+            }
+
+            if (filter.status() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), filter.status()));
+            }
+
+            if (filter.hasRestrictedAccess() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("hasRestrictedAccess"), filter.hasRestrictedAccess()));
+            }
+
+            if (predicates.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
     public static Specification<Survey> hasActive(Boolean isActive) {
         return (root, query, criteriaBuilder) ->
                 isActive != null ? criteriaBuilder.equal(root.get("active"), isActive) : criteriaBuilder.conjunction();
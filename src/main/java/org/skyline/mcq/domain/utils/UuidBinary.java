@@ -0,0 +1,22 @@
+package org.skyline.mcq.domain.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+public final class UuidBinary {
+
+    private UuidBinary() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
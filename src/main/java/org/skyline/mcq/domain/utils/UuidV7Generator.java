@@ -0,0 +1,29 @@
+package org.skyline.mcq.domain.utils;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_SEQUENCE = new AtomicLong();
+
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << 12;
+        long sequence = LAST_SEQUENCE.updateAndGet(last -> Math.max(now, last + 1));
+
+        long mostSignificantBits = (sequence >>> 12) << 16 | 0x7000L | (sequence & 0xFFFL);
+        long leastSignificantBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return generate();
+    }
+}
@@ -0,0 +1,132 @@
+package org.skyline.mcq.infrastructure.http;
+
+import org.skyline.mcq.domain.exceptions.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class AdaptiveAdmissionController {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long queueTimeoutNanos;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+    private final double dashboardShare;
+    private double limit;
+    private int inFlight;
+    private int queued;
+
+    public AdaptiveAdmissionController(@Value("${admission-initial-limit:20}") int initialLimit,
+                                       @Value("${admission-min-limit:4}") int minLimit,
+                                       @Value("${admission-max-limit:200}") int maxLimit,
+                                       @Value("${admission-queue-size:100}") int maxQueue,
+                                       @Value("${admission-queue-timeout:1000}") long queueTimeout,
+                                       @Value("${admission-latency-target:500}") long latencyTarget,
+                                       @Value("${admission-backoff-ratio:0.9}") double backoffRatio,
+                                       @Value("${admission-dashboard-share:0.5}") double dashboardShare) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeout);
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTarget);
+        this.backoffRatio = backoffRatio;
+        this.dashboardShare = dashboardShare;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    public void acquire(AdmissionPriority priority) {
+        lock.lock();
+        try {
+            if (priority == AdmissionPriority.DASHBOARD) {
+                // Dashboard reads never queue and only use part of the limit, so submissions keep the rest.
+                if (queued > 0 || inFlight >= Math.max(1, (int) (limit * dashboardShare))) {
+                    throw new ServiceUnavailableException("The dashboard is busy right now, please try again later");
+                }
+                inFlight++;
+                return;
+            }
+
+            if (queued == 0 && inFlight < (int) limit) {
+                inFlight++;
+                return;
+            }
+            if (queued >= maxQueue) {
+                throw new ServiceUnavailableException("Too many survey submissions in progress, please try again later");
+            }
+
+            queued++;
+            try {
+                long remaining = queueTimeoutNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        throw new ServiceUnavailableException("Too many survey submissions in progress, please try again later");
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException("Survey submission was interrupted while waiting, please try again later");
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(AdmissionPriority priority, long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight * 2 >= limit;
+            inFlight--;
+
+            // Only submissions drive the limit: additive increase while they are fast, multiplicative decrease when they are not.
+            if (priority == AdmissionPriority.SUBMISSION) {
+                if (failed || latencyNanos > latencyTargetNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                } else if (saturated) {
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
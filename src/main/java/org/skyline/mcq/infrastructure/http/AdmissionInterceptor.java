@@ -0,0 +1,51 @@
+package org.skyline.mcq.infrastructure.http;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ADMISSION_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".admission";
+
+    private final AdaptiveAdmissionController admissionController;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod handlerMethod)) return true;
+
+        AdmissionControlled admissionControlled = handlerMethod.getMethodAnnotation(AdmissionControlled.class);
+        if (admissionControlled == null) return true;
+
+        admissionController.acquire(admissionControlled.value());
+        request.setAttribute(ADMISSION_ATTRIBUTE, new Admission(admissionControlled.value(), System.nanoTime()));
+        return true;
+    }
+
+    // Streaming responses give their permit back once the handler returns, not when the stream ends.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request, false);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request, ex != null || response.getStatus() >= 500);
+    }
+
+    private void release(HttpServletRequest request, boolean failed) {
+        if (request.getAttribute(ADMISSION_ATTRIBUTE) instanceof Admission admission) {
+            request.removeAttribute(ADMISSION_ATTRIBUTE);
+            admissionController.release(admission.priority(), System.nanoTime() - admission.startedAt(), failed);
+        }
+    }
+
+    private record Admission(AdmissionPriority priority, long startedAt) {
+    }
+}
@@ -0,0 +1,6 @@
+package org.skyline.mcq.infrastructure.http;
+
+public enum AdmissionPriority {
+    SUBMISSION,
+    DASHBOARD
+}
@@ -8,10 +8,13 @@ import org.skyline.mcq.infrastructure.http.dto.Error;
 import org.skyline.mcq.infrastructure.http.dto.ErrorResponse;
 import org.skyline.mcq.infrastructure.http.dto.ExceptionModel;
 import org.springframework.context.MessageSource;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,7 +24,6 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import javax.naming.AuthenticationException;
-import java.nio.file.AccessDeniedException;
 import java.security.SignatureException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -122,6 +124,37 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ResponseStatus(code = HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse<String>> handleServiceUnavailableException(ServiceUnavailableException ex, WebRequest request) {
+        ErrorResponse<String> errorResponse = buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.toString(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(errorResponse);
+    }
+
+    @ResponseStatus(code = HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse<String>> handleDatabaseUnavailableException(Exception ex, WebRequest request) {
+        return handleServiceUnavailableException(
+                new ServiceUnavailableException("The database is busy right now, please try again later"), request);
+    }
+
+    @ResponseStatus(code = HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse<String>> handleInvalidCursorException(InvalidCursorException ex, WebRequest request) {
+        ErrorResponse<String> errorResponse = buildErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.toString(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(ExpiredJwtException.class)
     @ResponseStatus(code = HttpStatus.UNAUTHORIZED)
     public ResponseEntity<ErrorResponse<String>> handleExpiredJwtException(ExpiredJwtException ex, WebRequest request) {
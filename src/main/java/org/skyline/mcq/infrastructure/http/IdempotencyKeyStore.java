@@ -0,0 +1,118 @@
+package org.skyline.mcq.infrastructure.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.skyline.mcq.domain.exceptions.ConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Component
+public class IdempotencyKeyStore {
+
+    // Rough bookkeeping cost of one entry (key, record, future and cache node) on top of its payload.
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Entry> entries;
+    private final long waitTimeout;
+
+    public IdempotencyKeyStore(ObjectMapper objectMapper,
+                               @Value("${idempotency-key-store-max-bytes:67108864}") long maximumBytes,
+                               @Value("${idempotency-key-ttl:86400000}") long ttl,
+                               @Value("${idempotency-key-wait-timeout:10000}") long waitTimeout) {
+        this.objectMapper = objectMapper;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, Entry entry) -> ENTRY_OVERHEAD + 2 * key.idempotencyKey().length() + entry.fingerprint().length + entry.responseBytes())
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+        this.waitTimeout = waitTimeout;
+    }
+
+    public <T> T execute(UUID accountId, String idempotencyKey, Object request, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) return action.get();
+
+        Key key = new Key(accountId, idempotencyKey);
+        byte[] fingerprint = fingerprint(request);
+        Entry entry = new Entry(fingerprint, new CompletableFuture<>(), 0);
+        Entry existing = entries.asMap().putIfAbsent(key, entry);
+
+        if (existing != null) return replay(existing, fingerprint, idempotencyKey);
+
+        try {
+            T response = action.get();
+            entry.response().complete(response);
+            reweigh(key, entry, response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            // A failed attempt must not stick to the key, otherwise the client could never retry it.
+            entries.asMap().remove(key, entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    void cleanUp() {
+        entries.cleanUp();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T replay(Entry existing, byte[] fingerprint, String idempotencyKey) {
+        if (!MessageDigest.isEqual(existing.fingerprint(), fingerprint)) {
+            throw new ConflictException("Idempotency-Key", idempotencyKey, "The key was already used for a different request");
+        }
+
+        try {
+            return (T) existing.response().get(waitTimeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ConflictException("Idempotency-Key", idempotencyKey, "A request with this key is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Idempotency-Key", idempotencyKey, "Interrupted while waiting for the original request");
+        }
+    }
+
+    /**
+     * Re-inserts a completed entry so the cache weighs it by the serialized size of the response it replays,
+     * which keeps the store bounded by memory rather than by the number of keys.
+     */
+    private void reweigh(Key key, Entry entry, Object response) {
+        try {
+            int responseBytes = objectMapper.writeValueAsBytes(response).length;
+            entries.asMap().replace(key, entry, new Entry(entry.fingerprint(), entry.response(), responseBytes));
+        } catch (JsonProcessingException e) {
+            entries.asMap().remove(key, entry);
+        }
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not fingerprint the request", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Key(UUID accountId, String idempotencyKey) {
+    }
+
+    private record Entry(byte[] fingerprint, CompletableFuture<Object> response, int responseBytes) {
+    }
+}
@@ -0,0 +1,138 @@
+package org.skyline.mcq.infrastructure.http;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.skyline.mcq.application.dtos.output.DashboardUpdateDto;
+import org.skyline.mcq.application.dtos.output.SubmissionSummaryDto;
+import org.skyline.mcq.application.dtos.output.SurveyStatsDto;
+import org.skyline.mcq.application.events.SurveySubmissionEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+public class SurveyDashboardHub {
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final long emitterTimeout;
+
+    public SurveyDashboardHub(@Value("${dashboard-buffer-size:100}") int bufferSize,
+                              @Value("${dashboard-emitter-timeout:1800000}") long emitterTimeout) {
+        this.bufferSize = bufferSize;
+        this.emitterTimeout = emitterTimeout;
+    }
+
+    public SseEmitter subscribe(UUID surveyId, SurveyStatsDto initialStats) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        Subscriber subscriber = new Subscriber(surveyId, emitter);
+
+        subscribers.computeIfAbsent(surveyId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        subscriber.offer(initialStats, List.of());
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onSubmission(SurveySubmissionEvent event) {
+        Set<Subscriber> surveySubscribers = subscribers.get(event.surveyId());
+        if (surveySubscribers == null) return;
+
+        surveySubscribers.forEach(subscriber -> subscriber.offer(event.stats(), event.submissions()));
+    }
+
+    public int countSubscribers(UUID surveyId) {
+        return subscribers.getOrDefault(surveyId, Set.of()).size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(surveySubscribers -> surveySubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.surveyId, (id, surveySubscribers) -> {
+            surveySubscribers.remove(subscriber);
+            return surveySubscribers.isEmpty() ? null : surveySubscribers;
+        });
+    }
+
+    // Updates queue up here while a send is in flight: stats collapse to the newest snapshot and submissions are capped,
+    // so a slow client costs at most bufferSize summaries no matter how fast results arrive.
+    private final class Subscriber {
+
+        private final UUID surveyId;
+        private final SseEmitter emitter;
+        private final Deque<SubmissionSummaryDto> pendingSubmissions = new ArrayDeque<>();
+        private SurveyStatsDto pendingStats;
+        private long latestAttemptCount = -1;
+        private long droppedSubmissions;
+        private boolean sending;
+
+        private Subscriber(UUID surveyId, SseEmitter emitter) {
+            this.surveyId = surveyId;
+            this.emitter = emitter;
+        }
+
+        private synchronized void offer(SurveyStatsDto stats, List<SubmissionSummaryDto> submissions) {
+            // Commits from different transactions can be delivered out of order; never step the counters backwards.
+            if (stats != null && stats.getAttemptCount() > latestAttemptCount) {
+                pendingStats = stats;
+                latestAttemptCount = stats.getAttemptCount();
+            }
+            for (SubmissionSummaryDto submission : submissions) {
+                if (pendingSubmissions.size() == bufferSize) {
+                    pendingSubmissions.poll();
+                    droppedSubmissions++;
+                }
+                pendingSubmissions.add(submission);
+            }
+
+            if (!sending && hasPending()) {
+                sending = true;
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                DashboardUpdateDto update;
+                synchronized (this) {
+                    if (!hasPending()) {
+                        sending = false;
+                        return;
+                    }
+                    update = new DashboardUpdateDto(pendingStats, List.copyOf(pendingSubmissions), droppedSubmissions);
+                    pendingStats = null;
+                    pendingSubmissions.clear();
+                    droppedSubmissions = 0;
+                }
+
+                try {
+                    emitter.send(SseEmitter.event().name("update").data(update));
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Dropping dashboard subscriber for survey {}", surveyId, e);
+                    unsubscribe(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        private boolean hasPending() {
+            return pendingStats != null || !pendingSubmissions.isEmpty();
+        }
+    }
+}
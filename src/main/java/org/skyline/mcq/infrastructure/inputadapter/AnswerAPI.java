@@ -10,7 +10,7 @@ import org.skyline.mcq.infrastructure.http.dto.ResponseBody;
 import org.skyline.mcq.infrastructure.inputport.AnswerInputPort;
 import org.skyline.mcq.infrastructure.inputport.JwtInputPort;
 import org.skyline.mcq.infrastructure.inputport.ResultInputPort;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -33,9 +33,10 @@ public class AnswerAPI {
 
     @GetMapping(ANSWER_PATH + "/{resultId}")
     @PreAuthorize("hasRole('SURVEY_RESPONDENT')")
-    public ResponseEntity<ResponseBody<Page<AnswerResponseDto>>> listAnswerByResultId(@PathVariable UUID resultId,
-                                                                                      @RequestParam(required = false) @Positive Integer pageNumber,
-                                                                                      @RequestParam(required = false) @Positive Integer pageSize) {
+    public ResponseEntity<ResponseBody<Slice<AnswerResponseDto>>> listAnswerByResultId(@PathVariable UUID resultId,
+                                                                                       @RequestParam(required = false) @Positive Integer pageNumber,
+                                                                                       @RequestParam(required = false) @Positive Integer pageSize,
+                                                                                       @RequestParam(required = false) String after) {
          resultInputPort.findResultById(resultId, jwtInputPort.getCurrentUserDetails().getId()).orElseThrow(() -> new NotFoundException(
                 "Result",
                 resultId.toString(),
@@ -45,7 +46,9 @@ public class AnswerAPI {
         return responseHandler.responseBuild(
                 HttpStatus.OK,
                 "Requested Answer By Result ID are given here",
-                answerInputPort.listAnswerByResultId(resultId, pageNumber, pageSize)
+                after == null
+                        ? answerInputPort.listAnswerByResultId(resultId, pageNumber, pageSize)
+                        : answerInputPort.scrollAnswerByResultId(resultId, after, pageSize)
         );
     }
 
@@ -7,6 +7,7 @@ import org.skyline.mcq.application.dtos.input.*;
 import org.skyline.mcq.application.dtos.output.AccountSummaryDto;
 import org.skyline.mcq.application.dtos.output.JwtResponseDto;
 import org.skyline.mcq.application.dtos.output.RoleResponseDto;
+import org.skyline.mcq.application.utils.CustomUserDetails;
 import org.skyline.mcq.domain.enums.TypeRole;
 import org.skyline.mcq.domain.exceptions.*;
 import org.skyline.mcq.domain.models.RefreshToken;
@@ -14,8 +15,10 @@ import org.skyline.mcq.infrastructure.inputport.AccountInputPort;
 import org.skyline.mcq.infrastructure.inputport.JwtInputPort;
 import org.skyline.mcq.infrastructure.inputport.RefreshTokenInputPort;
 import org.skyline.mcq.infrastructure.inputport.RoleInputPort;
+import org.skyline.mcq.infrastructure.security.TokenDenylist;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -34,6 +37,7 @@ public class AuthAPI {
     private final RefreshTokenInputPort refreshTokenInputPort;
     private final AuthenticationManager authenticationManager;
     private final RoleInputPort roleInputPort;
+    private final TokenDenylist tokenDenylist;
 
     @PostMapping("/register/creator")
     public ResponseEntity<JwtResponseDto> registerCreator(@Valid @RequestBody SignUpRequestDto signUpRequest) {
@@ -47,7 +51,7 @@ public class AuthAPI {
 
     @PostMapping("/login")
     public ResponseEntity<JwtResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequest) {
-        authenticateUser(loginRequest.getEmail(), loginRequest.getPassword());
+        CustomUserDetails userDetails = authenticateUser(loginRequest.getEmail(), loginRequest.getPassword());
 
         AccountSummaryDto account = accountInputPort.getUserByEmail(loginRequest.getEmail())
                 .orElseThrow(() -> new InvalidCredentialsException("Account not found"));
@@ -56,7 +60,7 @@ public class AuthAPI {
                 .or(() -> refreshTokenInputPort.createRefreshToken(jwtInputPort.createRefreshToken(account)))
                 .orElseThrow(() -> new TokenOperationException("Failed to get or create refresh token"));
 
-        return ResponseEntity.ok(buildJwtResponse(loginRequest.getEmail(), refreshToken));
+        return ResponseEntity.ok(buildJwtResponse(userDetails, refreshToken));
     }
 
     @PostMapping("/refresh-token")
@@ -65,11 +69,23 @@ public class AuthAPI {
         RefreshToken validRefreshToken = validateAndGetRefreshToken(refreshTokenRequest.getRefreshToken());
 
         return ResponseEntity.ok(
-                buildJwtResponse(validRefreshToken.getAccount().getEmail(), validRefreshToken.getToken())
+                buildJwtResponse(CustomUserDetails.build(validRefreshToken.getAccount()), validRefreshToken.getToken())
         );
     }
 
-    public void authenticateUser(String email, String password) {
+    @PostMapping("/logout")
+    @SecurityRequirement(name = "BearerAuth")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> logout() {
+        CustomUserDetails userDetails = jwtInputPort.getCurrentUserDetails();
+
+        refreshTokenInputPort.deleteByUserEmail(userDetails.getEmail());
+        tokenDenylist.revokeAccount(userDetails.getId());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    public CustomUserDetails authenticateUser(String email, String password) {
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(email, password)
@@ -78,6 +94,8 @@ public class AuthAPI {
             if (!authentication.isAuthenticated()) {
                 throw new InvalidCredentialsException("Invalid credentials");
             }
+
+            return (CustomUserDetails) authentication.getPrincipal();
         } catch (AuthenticationException e) {
             throw new InvalidCredentialsException("Authentication failed: " + e.getMessage());
         }
@@ -98,7 +116,7 @@ public class AuthAPI {
         String refreshToken = generateRefreshToken(createdAccount);
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(buildJwtResponse(signUpRequest.getEmail(), refreshToken));
+                .body(buildJwtResponse(CustomUserDetails.build(createdAccount, roleType), refreshToken));
     }
 
     public AccountSummaryDto createAccount(SignUpRequestDto signUpRequest, RoleResponseDto role) {
@@ -124,9 +142,9 @@ public class AuthAPI {
                 .orElseThrow(() -> new TokenGenerationException("Failed to create refresh token"));
     }
 
-    public JwtResponseDto buildJwtResponse(String email, String refreshToken) {
+    public JwtResponseDto buildJwtResponse(CustomUserDetails userDetails, String refreshToken) {
         return JwtResponseDto.builder()
-                .accessToken(jwtInputPort.generateToken(email))
+                .accessToken(jwtInputPort.generateToken(userDetails))
                 .refreshToken(refreshToken)
                 .build();
     }
@@ -5,21 +5,32 @@ import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.skyline.mcq.application.dtos.output.ResultResponseDto;
 import org.skyline.mcq.domain.exceptions.NotFoundException;
+import org.skyline.mcq.infrastructure.http.AdmissionControlled;
+import org.skyline.mcq.infrastructure.http.AdmissionPriority;
 import org.skyline.mcq.infrastructure.http.ResponseHandler;
+import org.skyline.mcq.infrastructure.http.SurveyDashboardHub;
 import org.skyline.mcq.infrastructure.inputport.AccountInputPort;
 import org.skyline.mcq.infrastructure.inputport.JwtInputPort;
 import org.skyline.mcq.infrastructure.inputport.ResultInputPort;
 import org.skyline.mcq.infrastructure.http.dto.ResponseBody;
 import org.skyline.mcq.infrastructure.inputport.SurveyInputPort;
-import org.springframework.data.domain.Page;
+import org.skyline.mcq.infrastructure.inputport.SurveyStatsInputPort;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 @RestController
@@ -33,6 +44,8 @@ public class ResultAPI {
     private final SurveyInputPort surveyInputPort;
     private final AccountInputPort accountInputPort;
     private final ResultInputPort resultInputPort;
+    private final SurveyStatsInputPort surveyStatsInputPort;
+    private final SurveyDashboardHub surveyDashboardHub;
     private final JwtInputPort jwtInputPort;
     private final ResponseHandler responseHandler;
 
@@ -54,9 +67,11 @@ public class ResultAPI {
 
     @GetMapping(RESULT_PATH + "/survey/{surveyId}")
     @PreAuthorize("hasRole('ROLE_SURVEY_CREATOR')")
-    public ResponseEntity<ResponseBody<Page<ResultResponseDto>>> getResultBySurveyId(@PathVariable UUID surveyId,
-                                                                                     @RequestParam(required = false) @Positive Integer pageNumber,
-                                                                                     @RequestParam(required = false) @Positive Integer pageSize) {
+    @AdmissionControlled(AdmissionPriority.DASHBOARD)
+    public ResponseEntity<ResponseBody<Slice<ResultResponseDto>>> getResultBySurveyId(@PathVariable UUID surveyId,
+                                                                                      @RequestParam(required = false) @Positive Integer pageNumber,
+                                                                                      @RequestParam(required = false) @Positive Integer pageSize,
+                                                                                      @RequestParam(required = false) String after) {
 
         surveyInputPort.findSurveyById(surveyId)
                 .filter(surveyResponseDto ->
@@ -67,14 +82,43 @@ public class ResultAPI {
         return responseHandler.responseBuild(
                 HttpStatus.OK,
                 "Requested Result is given here",
-                resultInputPort.listResultBySurveyId(surveyId, pageNumber, pageSize)
+                after == null
+                        ? resultInputPort.listResultBySurveyId(surveyId, pageNumber, pageSize)
+                        : resultInputPort.scrollResultBySurveyId(surveyId, after, pageSize)
         );
     }
 
+    @GetMapping(RESULT_PATH + "/survey/{surveyId}/export")
+    @PreAuthorize("hasRole('ROLE_SURVEY_CREATOR')")
+    public ResponseEntity<StreamingResponseBody> exportResultBySurveyId(@PathVariable UUID surveyId) {
+
+        surveyInputPort.findSurveyById(surveyId)
+                .filter(surveyResponseDto ->
+                        surveyResponseDto.getAccount().getId().equals(jwtInputPort.getCurrentUserDetails().getId())
+                )
+                .orElseThrow(() -> new NotFoundException("Survey", surveyId.toString(), "Please provide a valid survey ID"));
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("results-" + surveyId + ".csv").build().toString())
+                .body(outputStream -> resultInputPort.exportResultsBySurveyId(surveyId, new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+
+    @GetMapping(RESULT_PATH + "/survey/{surveyId}/live")
+    @PreAuthorize("hasRole('ROLE_SURVEY_CREATOR')")
+    @AdmissionControlled(AdmissionPriority.DASHBOARD)
+    public SseEmitter streamResultBySurveyId(@PathVariable UUID surveyId) {
+
+        return surveyStatsInputPort.findSurveyStats(surveyId, jwtInputPort.getCurrentUserDetails().getId())
+                .map(stats -> surveyDashboardHub.subscribe(surveyId, stats))
+                .orElseThrow(() -> new NotFoundException("Survey", surveyId.toString(), "Please provide a valid survey ID"));
+    }
+
     @GetMapping(RESULT_PATH + "/account")
     @PreAuthorize("hasRole('SURVEY_RESPONDENT')")
-    public ResponseEntity<ResponseBody<Page<ResultResponseDto>>> getAllResultByAccountId(@RequestParam(required = false) @Positive Integer pageNumber,
-                                                                                      @RequestParam(required = false) @Positive Integer pageSize) {
+    public ResponseEntity<ResponseBody<Slice<ResultResponseDto>>> getAllResultByAccountId(@RequestParam(required = false) @Positive Integer pageNumber,
+                                                                                          @RequestParam(required = false) @Positive Integer pageSize,
+                                                                                          @RequestParam(required = false) String after) {
 
         UUID accountId = jwtInputPort.getCurrentUserDetails().getId();
         validateAccountExists(accountId);
@@ -82,15 +126,18 @@ public class ResultAPI {
         return responseHandler.responseBuild(
                 HttpStatus.OK,
                 "Requested Result is given here",
-                resultInputPort.listResultByAccountId(accountId, pageNumber, pageSize)
+                after == null
+                        ? resultInputPort.listResultByAccountId(accountId, pageNumber, pageSize)
+                        : resultInputPort.scrollResultByAccountId(accountId, after, pageSize)
         );
     }
 
     @GetMapping(RESULT_PATH + "/survey/{surveyId}/account/{accountId}")
     @PreAuthorize("hasRole('SURVEY_RESPONDENT')")
-    public ResponseEntity<ResponseBody<Page<ResultResponseDto>>> getResultBySurveyIdAndAccountId(@PathVariable UUID surveyId, @PathVariable UUID accountId,
-                                                                                                 @RequestParam(required = false) @Positive Integer pageNumber,
-                                                                                                 @RequestParam(required = false) @Positive Integer pageSize) {
+    public ResponseEntity<ResponseBody<Slice<ResultResponseDto>>> getResultBySurveyIdAndAccountId(@PathVariable UUID surveyId, @PathVariable UUID accountId,
+                                                                                                  @RequestParam(required = false) @Positive Integer pageNumber,
+                                                                                                  @RequestParam(required = false) @Positive Integer pageSize,
+                                                                                                  @RequestParam(required = false) String after) {
 
         validateAccountExists(accountId);
 
@@ -100,7 +147,9 @@ public class ResultAPI {
         return responseHandler.responseBuild(
                 HttpStatus.OK,
                 "Requested Result is given here",
-                resultInputPort.listResultBySurveyIdAndAccountId(surveyId, accountId, pageNumber, pageSize)
+                after == null
+                        ? resultInputPort.listResultBySurveyIdAndAccountId(surveyId, accountId, pageNumber, pageSize)
+                        : resultInputPort.scrollResultBySurveyIdAndAccountId(surveyId, accountId, after, pageSize)
         );
     }
 
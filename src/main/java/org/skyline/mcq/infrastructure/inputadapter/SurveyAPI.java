@@ -8,20 +8,27 @@ import org.skyline.mcq.application.dtos.input.SurveyAnswersDto;
 import org.skyline.mcq.application.dtos.input.SurveyRequestDto;
 import org.skyline.mcq.application.dtos.input.SurveyUpdateRequestDto;
 import org.skyline.mcq.application.dtos.output.*;
-import org.skyline.mcq.domain.exceptions.ConflictException;
+import org.skyline.mcq.domain.enums.SubmissionStatus;
 import org.skyline.mcq.domain.exceptions.NotFoundException;
+import org.skyline.mcq.infrastructure.http.AdmissionControlled;
+import org.skyline.mcq.infrastructure.http.AdmissionPriority;
+import org.skyline.mcq.infrastructure.http.IdempotencyKeyStore;
 import org.skyline.mcq.infrastructure.http.ResponseHandler;
 import org.skyline.mcq.infrastructure.http.dto.ResponseBody;
 import org.skyline.mcq.infrastructure.inputport.JwtInputPort;
+import org.skyline.mcq.infrastructure.inputport.QuestionAnalyticsInputPort;
+import org.skyline.mcq.infrastructure.inputport.SubmissionInputPort;
 import org.skyline.mcq.infrastructure.inputport.SurveyInputPort;
+import org.skyline.mcq.infrastructure.inputport.SurveySnapshotInputPort;
+import org.skyline.mcq.infrastructure.inputport.SurveyStatsInputPort;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.sql.Timestamp;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -31,9 +38,15 @@ public class SurveyAPI {
 
     public static final String SURVEY_PATH = "/api/v1/surveys";
     public static final String SURVEY_PATH_ID = SURVEY_PATH + "/{surveyId}";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
     private final SurveyInputPort surveyInputPort;
+    private final SurveySnapshotInputPort surveySnapshotInputPort;
+    private final SubmissionInputPort submissionInputPort;
+    private final SurveyStatsInputPort surveyStatsInputPort;
+    private final QuestionAnalyticsInputPort questionAnalyticsInputPort;
     private final ResponseHandler responseHandler;
+    private final IdempotencyKeyStore idempotencyKeyStore;
     private final JwtInputPort jwtInputPort;
 
     @PostMapping(SURVEY_PATH)
@@ -50,50 +63,101 @@ public class SurveyAPI {
 
     @GetMapping(SURVEY_PATH)
     @PreAuthorize("hasRole('SURVEY_RESPONDENT')")
-    public ResponseEntity<ResponseBody<Page<SurveyResponseDto>>> getAllSurveys(@RequestParam(required = false) UUID categoryId, @RequestParam(required = false) UUID accountId,
-                                                                               @RequestParam(required = false) Boolean isPublic, @RequestParam(required = false) @Positive Integer pageNumber,
-                                                                               @RequestParam(required = false) @Positive Integer pageSize) {
+    public ResponseEntity<ResponseBody<Slice<SurveyResponseDto>>> getAllSurveys(@RequestParam(required = false) UUID categoryId, @RequestParam(required = false) UUID accountId,
+                                                                                @RequestParam(required = false) Boolean isPublic, @RequestParam(required = false) @Positive Integer pageNumber,
+                                                                                @RequestParam(required = false) @Positive Integer pageSize, @RequestParam(required = false) String after) {
+        Slice<SurveyResponseDto> surveys = after == null
+                ? surveyInputPort.listSurveys(categoryId, true, isPublic, accountId, true, pageNumber, pageSize)
+                : surveyInputPort.scrollSurveys(categoryId, true, isPublic, accountId, true, after, pageSize);
+
         return responseHandler.responseBuild(
                 HttpStatus.OK,
                 "Requested All Surveys are given here",
-                surveyInputPort.listSurveys(categoryId, true, isPublic, accountId, true, pageNumber, pageSize)
+                surveys
         );
     }
 
     @GetMapping(SURVEY_PATH + "/creator")
     @PreAuthorize("hasRole('SURVEY_CREATOR')")
-    public ResponseEntity<ResponseBody<Page<SurveyResponseDto>>> getAllSurveys(@RequestParam(required = false) UUID categoryId, @RequestParam(required = false)  Boolean status,
-                                                                               @RequestParam(required = false) Boolean isPublic, @RequestParam(required = false) UUID accountId,
-                                                                               @RequestParam(required = false) @Positive Integer pageNumber, @RequestParam(required = false) @Positive Integer pageSize) {
+    public ResponseEntity<ResponseBody<Slice<SurveyResponseDto>>> getAllSurveys(@RequestParam(required = false) UUID categoryId, @RequestParam(required = false)  Boolean status,
+                                                                                @RequestParam(required = false) Boolean isPublic, @RequestParam(required = false) UUID accountId,
+                                                                                @RequestParam(required = false) @Positive Integer pageNumber, @RequestParam(required = false) @Positive Integer pageSize,
+                                                                                @RequestParam(required = false) String after) {
+        UUID creatorId = jwtInputPort.getCurrentUserDetails().getId();
+        Slice<SurveyResponseDto> surveys = after == null
+                ? surveyInputPort.listSurveys(categoryId, status, isPublic, creatorId, true, pageNumber, pageSize)
+                : surveyInputPort.scrollSurveys(categoryId, status, isPublic, creatorId, true, after, pageSize);
+
         return responseHandler.responseBuild(
                 HttpStatus.OK,
                 "(Creator) Requested All Surveys are given here",
-                surveyInputPort.listSurveys(categoryId, status, isPublic, jwtInputPort.getCurrentUserDetails().getId(), true, pageNumber, pageSize)
+                surveys
         );
     }
 
     @GetMapping(SURVEY_PATH + "/admin")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ResponseBody<Page<SurveyResponseDto>>> getAllSurveys(@RequestParam(required = false) UUID categoryId, @RequestParam(required = false)  Boolean status,
-                                                                               @RequestParam(required = false) Boolean isPublic, @RequestParam(required = false) UUID accountId,
-                                                                               @RequestParam(required = false) Boolean isActive, @RequestParam(required = false) @Positive Integer pageNumber,
-                                                                               @RequestParam(required = false) @Positive Integer pageSize) {
+    public ResponseEntity<ResponseBody<Slice<SurveyResponseDto>>> getAllSurveys(@RequestParam(required = false) UUID categoryId, @RequestParam(required = false)  Boolean status,
+                                                                                @RequestParam(required = false) Boolean isPublic, @RequestParam(required = false) UUID accountId,
+                                                                                @RequestParam(required = false) Boolean isActive, @RequestParam(required = false) @Positive Integer pageNumber,
+                                                                                @RequestParam(required = false) @Positive Integer pageSize, @RequestParam(required = false) String after) {
+        Slice<SurveyResponseDto> surveys = after == null
+                ? surveyInputPort.listSurveys(categoryId, status, isPublic, accountId, isActive, pageNumber, pageSize)
+                : surveyInputPort.scrollSurveys(categoryId, status, isPublic, accountId, isActive, after, pageSize);
+
         return responseHandler.responseBuild(
                 HttpStatus.OK,
                 "(Admin) Requested All Surveys are given here",
-                surveyInputPort.listSurveys(categoryId, status, isPublic, accountId, isActive, pageNumber, pageSize)
+                surveys
+        );
+    }
+
+    @GetMapping(SURVEY_PATH + "/summary")
+    @PreAuthorize("hasRole('SURVEY_RESPONDENT')")
+    public ResponseEntity<ResponseBody<Page<SurveyListItemDto>>> getSurveySummaries(@RequestParam(required = false) UUID categoryId, @RequestParam(required = false) UUID accountId,
+                                                                                    @RequestParam(required = false) Boolean isPublic, @RequestParam(required = false) @Positive Integer pageNumber,
+                                                                                    @RequestParam(required = false) @Positive Integer pageSize) {
+        return responseHandler.responseBuild(
+                HttpStatus.OK,
+                "Requested Survey Summaries are given here",
+                surveyInputPort.listSurveySummaries(categoryId, true, isPublic, accountId, true, pageNumber, pageSize)
+        );
+    }
+
+    @GetMapping(SURVEY_PATH + "/creator/summary")
+    @PreAuthorize("hasRole('SURVEY_CREATOR')")
+    public ResponseEntity<ResponseBody<Page<SurveyListItemDto>>> getSurveySummaries(@RequestParam(required = false) UUID categoryId, @RequestParam(required = false) Boolean status,
+                                                                                    @RequestParam(required = false) Boolean isPublic, @RequestParam(required = false) @Positive Integer pageNumber,
+                                                                                    @RequestParam(required = false) @Positive Integer pageSize) {
+        return responseHandler.responseBuild(
+                HttpStatus.OK,
+                "(Creator) Requested Survey Summaries are given here",
+                surveyInputPort.listSurveySummaries(categoryId, status, isPublic, jwtInputPort.getCurrentUserDetails().getId(), true, pageNumber, pageSize)
+        );
+    }
+
+    @GetMapping(SURVEY_PATH + "/admin/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseBody<Page<SurveyListItemDto>>> getSurveySummaries(@RequestParam(required = false) UUID categoryId, @RequestParam(required = false) Boolean status,
+                                                                                    @RequestParam(required = false) Boolean isPublic, @RequestParam(required = false) UUID accountId,
+                                                                                    @RequestParam(required = false) Boolean isActive, @RequestParam(required = false) @Positive Integer pageNumber,
+                                                                                    @RequestParam(required = false) @Positive Integer pageSize) {
+        return responseHandler.responseBuild(
+                HttpStatus.OK,
+                "(Admin) Requested Survey Summaries are given here",
+                surveyInputPort.listSurveySummaries(categoryId, status, isPublic, accountId, isActive, pageNumber, pageSize)
         );
     }
 
     @GetMapping(SURVEY_PATH_ID)
     @PreAuthorize("hasAnyRole('SURVEY_RESPONDENT', 'ADMIN', 'SURVEY_CREATOR')")
-    public ResponseEntity<ResponseBody<SurveyResponseDto>> getSurveyById(@PathVariable UUID surveyId) {
+    public ResponseEntity<ResponseBody<RawJson>> getSurveyById(@PathVariable UUID surveyId) {
 
-        return surveyInputPort.findSurveyById(surveyId).map(survey ->
+        return surveySnapshotInputPort.findSurveySnapshot(surveyId).map(snapshot ->
                 responseHandler.responseBuild(
                     HttpStatus.OK,
                     "Requested Survey By ID are given here",
-                    survey
+                    snapshot.survey()
                 )
         ).orElseThrow(() -> new NotFoundException(
                 "Survey",
@@ -104,9 +168,9 @@ public class SurveyAPI {
 
     @GetMapping(SURVEY_PATH + "/{surveyId}/questions")
     @PreAuthorize("hasAnyRole('SURVEY_RESPONDENT', 'ADMIN', 'SURVEY_CREATOR')")
-    public ResponseEntity<ResponseBody<Set<QuestionSummaryDto>>> getSurveyQuestions(@PathVariable UUID surveyId) {
+    public ResponseEntity<ResponseBody<RawJson>> getSurveyQuestions(@PathVariable UUID surveyId) {
 
-        var survey = surveyInputPort.findSurveyById(surveyId).orElseThrow(() -> new NotFoundException(
+        var snapshot = surveySnapshotInputPort.findSurveySnapshot(surveyId).orElseThrow(() -> new NotFoundException(
                 "Survey",
                 surveyId.toString(),
                 "Please provide a valid survey ID"
@@ -115,10 +179,55 @@ public class SurveyAPI {
         return responseHandler.responseBuild(
                 HttpStatus.OK,
                 "Requested All Questions for Survey are given here",
-                survey.getQuestions()
+                snapshot.questions()
         );
     }
 
+    @GetMapping(SURVEY_PATH_ID + "/questions/analytics")
+    @PreAuthorize("hasRole('SURVEY_CREATOR')")
+    @AdmissionControlled(AdmissionPriority.DASHBOARD)
+    public ResponseEntity<ResponseBody<List<QuestionAnalyticsDto>>> getQuestionAnalytics(@PathVariable UUID surveyId) {
+
+        return questionAnalyticsInputPort.findQuestionAnalytics(surveyId, jwtInputPort.getCurrentUserDetails().getId()).map(analytics -> responseHandler.responseBuild(
+                HttpStatus.OK,
+                "(Creator) Requested Question analytics for Survey are given here",
+                analytics
+        )).orElseThrow(() -> new NotFoundException("Survey", surveyId.toString(), "Please provide a valid survey ID"));
+    }
+
+    @GetMapping(SURVEY_PATH + "/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseBody<CacheStatsDto>> getSurveyCacheStats() {
+        return responseHandler.responseBuild(
+                HttpStatus.OK,
+                "(Admin) Survey snapshot cache statistics are given here",
+                surveySnapshotInputPort.getCacheStats()
+        );
+    }
+
+    @GetMapping(SURVEY_PATH_ID + "/stats")
+    @PreAuthorize("hasRole('SURVEY_CREATOR')")
+    @AdmissionControlled(AdmissionPriority.DASHBOARD)
+    public ResponseEntity<ResponseBody<SurveyStatsDto>> getSurveyStats(@PathVariable UUID surveyId) {
+
+        return surveyStatsInputPort.findSurveyStats(surveyId, jwtInputPort.getCurrentUserDetails().getId()).map(stats -> responseHandler.responseBuild(
+                HttpStatus.OK,
+                "(Creator) Requested Survey statistics are given here",
+                stats
+        )).orElseThrow(() -> new NotFoundException("Survey", surveyId.toString(), "Please provide a valid survey ID"));
+    }
+
+    @PostMapping(SURVEY_PATH_ID + "/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ResponseBody<SurveyStatsDto>> rebuildSurveyStats(@PathVariable UUID surveyId) {
+
+        return surveyStatsInputPort.rebuildSurveyStats(surveyId).map(stats -> responseHandler.responseBuild(
+                HttpStatus.OK,
+                "(Admin) Survey statistics rebuilt from its results",
+                stats
+        )).orElseThrow(() -> new NotFoundException("Survey", surveyId.toString(), "Please provide a valid survey ID"));
+    }
+
     @PutMapping(SURVEY_PATH_ID)
     @PreAuthorize("hasRole('SURVEY_CREATOR')")
     public ResponseEntity<Void> updateSurvey(@PathVariable UUID surveyId, @Valid @RequestBody SurveyUpdateRequestDto surveyRequestDto) {
@@ -175,20 +284,20 @@ public class SurveyAPI {
 
     @PostMapping(SURVEY_PATH + "/submit")
     @PreAuthorize("hasRole('SURVEY_RESPONDENT')")
-    public ResponseEntity<ResponseBody<ResultResponseDto>> submitSurvey(@Valid @RequestBody SurveyAnswersDto surveyAnswersDto) {
-        var surveyFound = surveyInputPort.findSurveyById(surveyAnswersDto.getSurveyId()).orElseThrow(() -> new NotFoundException(
-                "Survey",
-                surveyAnswersDto.getSurveyId().toString(),
-                "Please provide a valid survey ID"
-        ));
-        Timestamp startTime = Timestamp.valueOf(surveyAnswersDto.getStartTime());
-        Timestamp endTime = Timestamp.valueOf(surveyAnswersDto.getEndTime());
-        int durationMillis = Math.toIntExact(endTime.getTime() - startTime.getTime());
-        if (durationMillis > surveyFound.getTimeLimit()) throw new ConflictException("Survey", surveyAnswersDto.getSurveyId().toString(), "Survey time limit exceeded");
-
+    @AdmissionControlled(AdmissionPriority.SUBMISSION)
+    public ResponseEntity<ResponseBody<ResultResponseDto>> submitSurvey(@Valid @RequestBody SurveyAnswersDto surveyAnswersDto,
+                                                                        @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        UUID accountId = jwtInputPort.getCurrentUserDetails().getId();
+        var result = idempotencyKeyStore.execute(accountId, idempotencyKey, surveyAnswersDto,
+                () -> submissionInputPort.submitSurvey(surveyAnswersDto, accountId));
 
-        var result = surveyInputPort.submitSurvey(surveyAnswersDto, jwtInputPort.getCurrentUserDetails().getId())
-                .orElseThrow(() -> new ConflictException("Survey or Account", surveyAnswersDto.getSurveyId() + " " + jwtInputPort.getCurrentUserDetails().getId(), "Survey already submitted or Account is inactive"));
+        if (result.getStatus() == SubmissionStatus.PENDING) {
+            return responseHandler.responseBuild(
+                    HttpStatus.ACCEPTED,
+                    "(Survey respondent) Survey submission accepted, the result is being saved",
+                    result
+            );
+        }
 
         return responseHandler.responseBuild(
                 HttpStatus.OK,
@@ -196,4 +305,21 @@ public class SurveyAPI {
                 result
         );
     }
+
+    @GetMapping(SURVEY_PATH + "/submit/{resultId}")
+    @PreAuthorize("hasRole('SURVEY_RESPONDENT')")
+    public ResponseEntity<ResponseBody<SubmissionStatusDto>> getSubmissionStatus(@PathVariable UUID resultId) {
+
+        return submissionInputPort.findSubmissionStatus(resultId, jwtInputPort.getCurrentUserDetails().getId()).map(status ->
+                responseHandler.responseBuild(
+                        HttpStatus.OK,
+                        "(Survey respondent) Requested submission status is given here",
+                        status
+                )
+        ).orElseThrow(() -> new NotFoundException(
+                "Submission",
+                resultId.toString(),
+                "Please provide a valid result ID"
+        ));
+    }
 }
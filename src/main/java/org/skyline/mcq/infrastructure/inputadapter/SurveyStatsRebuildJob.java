@@ -0,0 +1,20 @@
+package org.skyline.mcq.infrastructure.inputadapter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.skyline.mcq.infrastructure.inputport.SurveyStatsInputPort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyStatsRebuildJob {
+
+    private final SurveyStatsInputPort surveyStatsInputPort;
+
+    @Scheduled(cron = "${survey-stats-rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        log.info("Rebuilt statistics for {} surveys", surveyStatsInputPort.rebuildAllSurveyStats());
+    }
+}
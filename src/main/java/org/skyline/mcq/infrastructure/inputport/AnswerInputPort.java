@@ -1,6 +1,7 @@
 package org.skyline.mcq.infrastructure.inputport;
 
 import org.skyline.mcq.application.dtos.output.AnswerResponseDto;
+import org.skyline.mcq.application.dtos.output.CursorSlice;
 import org.skyline.mcq.domain.models.Answer;
 import org.springframework.data.domain.Page;
 
@@ -10,4 +11,5 @@ public interface AnswerInputPort {
 
     AnswerResponseDto saveAnswer(Answer answer);
     Page<AnswerResponseDto> listAnswerByResultId(UUID resultId, Integer pageNumber, Integer pageSize);
+    CursorSlice<AnswerResponseDto> scrollAnswerByResultId(UUID resultId, String after, Integer pageSize);
 }
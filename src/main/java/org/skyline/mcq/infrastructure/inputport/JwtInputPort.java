@@ -7,13 +7,16 @@ import org.skyline.mcq.application.dtos.output.AccountSummaryDto;
 import org.skyline.mcq.application.utils.CustomUserDetails;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 public interface JwtInputPort {
     String extractUsername(String token);
     Date extractExpiration(String token);
     <T> T extractClaim(String token, Function<Claims, T> claimsResolver);
-    String generateToken(String username);
+    Claims verifyToken(String token);
+    String generateToken(CustomUserDetails userDetails);
+    Optional<CustomUserDetails> extractUserDetails(Claims claims);
     Boolean validateToken(String token, String username);
     String extractTokenFromRequest(HttpServletRequest request);
     RefreshTokenData createRefreshToken(AccountSummaryDto account);
@@ -0,0 +1,12 @@
+package org.skyline.mcq.infrastructure.inputport;
+
+import org.skyline.mcq.application.dtos.output.QuestionAnalyticsDto;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface QuestionAnalyticsInputPort {
+
+    Optional<List<QuestionAnalyticsDto>> findQuestionAnalytics(UUID surveyId, UUID accountId);
+}
@@ -1,9 +1,12 @@
 package org.skyline.mcq.infrastructure.inputport;
 
+import org.skyline.mcq.application.dtos.output.CursorSlice;
 import org.skyline.mcq.application.dtos.output.ResultResponseDto;
 import org.skyline.mcq.domain.models.Result;
 import org.springframework.data.domain.Page;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +17,8 @@ public interface ResultInputPort {
     Page<ResultResponseDto> listResultBySurveyId(UUID surveyId, Integer pageNumber, Integer pageSize);
     Page<ResultResponseDto> listResultByAccountId(UUID accountId, Integer pageNumber, Integer pageSize);
     Page<ResultResponseDto> listResultBySurveyIdAndAccountId(UUID surveyId, UUID accountId, Integer pageNumber, Integer pageSize);
+    CursorSlice<ResultResponseDto> scrollResultBySurveyId(UUID surveyId, String after, Integer pageSize);
+    CursorSlice<ResultResponseDto> scrollResultByAccountId(UUID accountId, String after, Integer pageSize);
+    CursorSlice<ResultResponseDto> scrollResultBySurveyIdAndAccountId(UUID surveyId, UUID accountId, String after, Integer pageSize);
+    void exportResultsBySurveyId(UUID surveyId, Writer writer) throws IOException;
 }
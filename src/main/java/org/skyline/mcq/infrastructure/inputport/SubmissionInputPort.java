@@ -0,0 +1,14 @@
+package org.skyline.mcq.infrastructure.inputport;
+
+import org.skyline.mcq.application.dtos.input.SurveyAnswersDto;
+import org.skyline.mcq.application.dtos.output.ResultResponseDto;
+import org.skyline.mcq.application.dtos.output.SubmissionStatusDto;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SubmissionInputPort {
+
+    ResultResponseDto submitSurvey(SurveyAnswersDto surveyAnswersDto, UUID accountId);
+    Optional<SubmissionStatusDto> findSubmissionStatus(UUID resultId, UUID accountId);
+}
@@ -1,10 +1,10 @@
 package org.skyline.mcq.infrastructure.inputport;
 
-import org.skyline.mcq.application.dtos.input.SurveyAnswersDto;
 import org.skyline.mcq.application.dtos.input.SurveyRequestDto;
 import org.skyline.mcq.application.dtos.input.SurveyUpdateRequestDto;
 import org.skyline.mcq.application.dtos.output.AccountSummaryDto;
-import org.skyline.mcq.application.dtos.output.ResultResponseDto;
+import org.skyline.mcq.application.dtos.output.CursorSlice;
+import org.skyline.mcq.application.dtos.output.SurveyListItemDto;
 import org.skyline.mcq.application.dtos.output.SurveyResponseDto;
 import org.springframework.data.domain.Page;
 
@@ -17,8 +17,9 @@ public interface SurveyInputPort {
     Optional<SurveyResponseDto> findSurveyById(UUID id);
     Optional<SurveyResponseDto> findSurveyByIdAndAccountId(UUID id, UUID accountId);
     Page<SurveyResponseDto> listSurveys(UUID categoryId, Boolean status, Boolean hasRestrictedAccess, UUID accountId, Boolean isActive, Integer pageNumber, Integer pageSize);
+    Page<SurveyListItemDto> listSurveySummaries(UUID categoryId, Boolean status, Boolean hasRestrictedAccess, UUID accountId, Boolean isActive, Integer pageNumber, Integer pageSize);
+    CursorSlice<SurveyResponseDto> scrollSurveys(UUID categoryId, Boolean status, Boolean hasRestrictedAccess, UUID accountId, Boolean isActive, String after, Integer pageSize);
     Page<AccountSummaryDto> listAccountsBySurveyIdAndSurveyActiveAndUserActive(UUID surveyId, Boolean isActiveSurvey, Boolean isActiveAccount, Integer pageNumber, Integer pageSize);
     Optional<SurveyResponseDto> updateSurvey(UUID id, UUID accountId, SurveyUpdateRequestDto survey);
     Boolean deleteSurvey(UUID id, UUID accountId);
-    Optional<ResultResponseDto> submitSurvey(SurveyAnswersDto surveyAnswersDto, UUID accountId);
 }
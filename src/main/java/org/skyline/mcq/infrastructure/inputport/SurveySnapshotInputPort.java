@@ -0,0 +1,13 @@
+package org.skyline.mcq.infrastructure.inputport;
+
+import org.skyline.mcq.application.dtos.output.CacheStatsDto;
+import org.skyline.mcq.application.dtos.output.SurveySnapshot;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SurveySnapshotInputPort {
+
+    Optional<SurveySnapshot> findSurveySnapshot(UUID surveyId);
+    CacheStatsDto getCacheStats();
+}
@@ -0,0 +1,13 @@
+package org.skyline.mcq.infrastructure.inputport;
+
+import org.skyline.mcq.application.dtos.output.SurveyStatsDto;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SurveyStatsInputPort {
+
+    Optional<SurveyStatsDto> findSurveyStats(UUID surveyId, UUID accountId);
+    Optional<SurveyStatsDto> rebuildSurveyStats(UUID surveyId);
+    int rebuildAllSurveyStats();
+}
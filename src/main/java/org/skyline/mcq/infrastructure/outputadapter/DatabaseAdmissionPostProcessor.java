@@ -0,0 +1,33 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+@ConditionalOnProperty(name = "db-admission-enabled", havingValue = "true")
+public class DatabaseAdmissionPostProcessor implements BeanPostProcessor {
+
+    private final int permits;
+    private final int maxWaiting;
+    private final long timeoutMillis;
+
+    public DatabaseAdmissionPostProcessor(@Value("${db-admission-permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+                                          @Value("${db-admission-max-waiting:200}") int maxWaiting,
+                                          @Value("${db-admission-timeout:2000}") long timeoutMillis) {
+        this.permits = permits;
+        this.maxWaiting = maxWaiting;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlledDataSource)) {
+            return new AdmissionControlledDataSource(dataSource, permits, maxWaiting, timeoutMillis);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,18 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Builder
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingAnswer {
+
+    private UUID id;
+    private UUID questionId;
+    private String userAnswers;
+    private Boolean isCorrect;
+    private Integer points;
+}
@@ -0,0 +1,54 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import lombok.*;
+import org.skyline.mcq.domain.models.Answer;
+import org.skyline.mcq.domain.models.Result;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingSubmission {
+
+    private UUID id;
+    private UUID accountId;
+    private UUID surveyId;
+    private Timestamp startTime;
+    private Timestamp endTime;
+    private Integer duration;
+    private Integer totalPoints;
+    private Integer correctAnswers;
+    private Integer incorrectAnswers;
+    private Timestamp createdAt;
+    private List<PendingAnswer> answers;
+
+    public static PendingSubmission of(Result result) {
+        return PendingSubmission.builder()
+                .id(result.getId())
+                .accountId(result.getAccount().getId())
+                .surveyId(result.getSurvey().getId())
+                .startTime(result.getStartTime())
+                .endTime(result.getEndTime())
+                .duration(result.getDuration())
+                .totalPoints(result.getTotalPoints())
+                .correctAnswers(result.getCorrectAnswers())
+                .incorrectAnswers(result.getIncorrectAnswers())
+                .createdAt(result.getCreatedAt())
+                .answers(result.getAnswers().stream().map(PendingSubmission::toPendingAnswer).toList())
+                .build();
+    }
+
+    private static PendingAnswer toPendingAnswer(Answer answer) {
+        return PendingAnswer.builder()
+                .id(answer.getId())
+                .questionId(answer.getQuestion().getId())
+                .userAnswers(answer.getUserAnswers())
+                .isCorrect(answer.getIsCorrect())
+                .points(answer.getPoints())
+                .build();
+    }
+}
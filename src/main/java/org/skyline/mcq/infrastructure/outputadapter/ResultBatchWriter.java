@@ -0,0 +1,67 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.output.SubmissionSummaryDto;
+import org.skyline.mcq.application.utils.SurveyStatsRecorder;
+import org.skyline.mcq.domain.utils.UuidBinary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "submission-mode", havingValue = "async")
+public class ResultBatchWriter {
+
+    private static final String INSERT_RESULT = "INSERT INTO result (id, account_id, survey_id, start_time, end_time, duration, total_points, correct_answers, incorrect_answers, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ANSWER = "INSERT INTO answer (id, account_id, question_id, result_id, user_answers, is_correct, points, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_EXISTING = "SELECT id FROM result WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SurveyStatsRecorder surveyStatsRecorder;
+
+    public void insert(List<PendingSubmission> submissions) {
+        List<Object[]> results = new ArrayList<>(submissions.size());
+        List<Object[]> answers = new ArrayList<>();
+        Map<UUID, List<SubmissionSummaryDto>> summaries = new TreeMap<>();
+
+        for (PendingSubmission submission : submissions) {
+            results.add(new Object[] {
+                    UuidBinary.toBytes(submission.getId()), UuidBinary.toBytes(submission.getAccountId()), UuidBinary.toBytes(submission.getSurveyId()),
+                    submission.getStartTime(), submission.getEndTime(), submission.getDuration(), submission.getTotalPoints(),
+                    submission.getCorrectAnswers(), submission.getIncorrectAnswers(), submission.getCreatedAt()
+            });
+            summaries.computeIfAbsent(submission.getSurveyId(), surveyId -> new ArrayList<>()).add(new SubmissionSummaryDto(
+                    submission.getId(), submission.getAccountId(), submission.getTotalPoints(), submission.getDuration(), submission.getCreatedAt()));
+            for (PendingAnswer answer : submission.getAnswers()) {
+                answers.add(new Object[] {
+                        UuidBinary.toBytes(answer.getId()), UuidBinary.toBytes(submission.getAccountId()), UuidBinary.toBytes(answer.getQuestionId()),
+                        UuidBinary.toBytes(submission.getId()), answer.getUserAnswers(), answer.getIsCorrect(), answer.getPoints(),
+                        submission.getCreatedAt()
+                });
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_RESULT, results);
+            if (!answers.isEmpty()) jdbcTemplate.batchUpdate(INSERT_ANSWER, answers);
+            // Surveys are visited in id order so two batches never wait on each other's stats rows.
+            summaries.forEach(surveyStatsRecorder::record);
+        });
+    }
+
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) return Set.of();
+
+        Set<UUID> existing = new HashSet<>();
+        namedParameterJdbcTemplate.query(SELECT_EXISTING, Map.of("ids", ids.stream().map(UuidBinary::toBytes).toList()),
+                row -> { existing.add(UuidBinary.fromBytes(row.getBytes("id"))); });
+        return existing;
+    }
+}
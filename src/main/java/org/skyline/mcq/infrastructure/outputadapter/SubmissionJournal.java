@@ -0,0 +1,242 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "submission-mode", havingValue = "async")
+public class SubmissionJournal {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private final boolean fsync;
+    private final long compactionSize;
+    private final Map<UUID, PendingSubmission> pending = new LinkedHashMap<>();
+    // A monitor held across fsync would pin the carrier of every virtual thread queued behind it.
+    private final ReentrantLock lock = new ReentrantLock();
+    // Taken before lock when both are needed; only one thread forces the file at a time.
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final AtomicLong synced = new AtomicLong();
+    private long written;
+    private long fileSize;
+    private long compactAt;
+    private FileChannel channel;
+
+    public SubmissionJournal(ObjectMapper objectMapper,
+                             @Value("${submission-journal-path:data/submission-journal.log}") String path,
+                             @Value("${submission-journal-fsync:true}") boolean fsync,
+                             @Value("${submission-journal-compaction-size:67108864}") long compactionSize) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path).toAbsolutePath();
+        this.fsync = fsync;
+        this.compactionSize = compactionSize;
+    }
+
+    public List<PendingSubmission> recover() {
+        syncLock.lock();
+        lock.lock();
+        try {
+            return doRecover();
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    private List<PendingSubmission> doRecover() {
+        Map<UUID, PendingSubmission> submissions = new LinkedHashMap<>();
+
+        try {
+            if (Files.exists(path)) {
+                try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+                    lines.filter(line -> !line.isBlank()).map(this::readEntry).flatMap(Optional::stream).forEach(entry -> {
+                        if (entry.getSubmission() != null) submissions.put(entry.getSubmission().getId(), entry.getSubmission());
+                        if (entry.getCommitted() != null) entry.getCommitted().forEach(submissions::remove);
+                    });
+                }
+            }
+            Files.createDirectories(path.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not recover submission journal " + path, e);
+        }
+
+        pending.clear();
+        pending.putAll(submissions);
+        compact();
+        return new ArrayList<>(submissions.values());
+    }
+
+    public void append(PendingSubmission submission) {
+        long position;
+        lock.lock();
+        try {
+            position = write(new Entry(submission, null));
+            pending.put(submission.getId(), submission);
+        } finally {
+            lock.unlock();
+        }
+        sync(position);
+    }
+
+    public void commit(Collection<UUID> ids) {
+        if (ids.isEmpty()) return;
+
+        syncLock.lock();
+        try {
+            long position;
+            lock.lock();
+            try {
+                ids.forEach(pending::remove);
+                if (pending.isEmpty() || fileSize >= compactAt) {
+                    compact();
+                    return;
+                }
+                position = write(new Entry(null, List.copyOf(ids)));
+            } finally {
+                lock.unlock();
+            }
+            sync(position);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long write(Entry entry) {
+        requireOpen();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap((objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) fileSize += channel.write(buffer);
+            written += buffer.limit();
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write to submission journal " + path, e);
+        }
+    }
+
+    /**
+     * Group commit: whoever gets the sync lock first forces everything written so far, so the appends
+     * that queued up behind that fsync return without issuing their own.
+     */
+    private void sync(long position) {
+        if (!fsync) return;
+
+        syncLock.lock();
+        try {
+            if (synced.get() >= position) return;
+
+            long target;
+            FileChannel current;
+            lock.lock();
+            try {
+                requireOpen();
+                target = written;
+                current = channel;
+            } finally {
+                lock.unlock();
+            }
+            current.force(false);
+            synced.accumulateAndGet(target, Math::max);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not sync submission journal " + path, e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Rewrites the journal with only the pending submissions. Runs when the file outgrows the compaction
+     * size, or truncates it when nothing is pending, so a journal that is never fully drained stays bounded.
+     * Callers hold both locks.
+     */
+    private void compact() {
+        long size = 0;
+        try {
+            Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (PendingSubmission submission : pending.values()) {
+                    ByteBuffer buffer = ByteBuffer.wrap((objectMapper.writeValueAsString(new Entry(submission, null)) + "\n").getBytes(StandardCharsets.UTF_8));
+                    while (buffer.hasRemaining()) size += target.write(buffer);
+                }
+                if (fsync) target.force(false);
+            }
+
+            if (channel != null) channel.close();
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            if (channel != null && !channel.isOpen()) channel = null;
+            throw new UncheckedIOException("Could not compact submission journal " + path, e);
+        }
+
+        // Every pending entry is in the new file and already durable, so no earlier append needs a sync.
+        written += size;
+        synced.set(written);
+        fileSize = size;
+        compactAt = Math.max(compactionSize, size * 2);
+    }
+
+    private void requireOpen() {
+        if (channel == null) throw new IllegalStateException("Submission journal " + path + " has not been recovered");
+    }
+
+    private Optional<Entry> readEntry(String line) {
+        try {
+            return Optional.of(objectMapper.readValue(line, Entry.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping unreadable submission journal entry in {}", path);
+            return Optional.empty();
+        }
+    }
+
+    @Getter @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private PendingSubmission submission;
+        private List<UUID> committed;
+    }
+}
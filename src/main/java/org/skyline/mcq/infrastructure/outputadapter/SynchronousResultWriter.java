@@ -0,0 +1,31 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.domain.enums.SubmissionStatus;
+import org.skyline.mcq.domain.models.Result;
+import org.skyline.mcq.infrastructure.outputport.ResultRepository;
+import org.skyline.mcq.infrastructure.outputport.ResultWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "submission-mode", havingValue = "sync", matchIfMissing = true)
+public class SynchronousResultWriter implements ResultWriter {
+
+    private final ResultRepository resultRepository;
+
+    @Override
+    public SubmissionStatus write(Result result) {
+        resultRepository.save(result);
+        return SubmissionStatus.PERSISTED;
+    }
+
+    @Override
+    public Optional<SubmissionStatus> findStatus(UUID resultId, UUID accountId) {
+        return resultRepository.existsByIdAndAccountId(resultId, accountId) ? Optional.of(SubmissionStatus.PERSISTED) : Optional.empty();
+    }
+}
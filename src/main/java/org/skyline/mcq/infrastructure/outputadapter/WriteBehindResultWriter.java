@@ -0,0 +1,226 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.skyline.mcq.domain.enums.SubmissionStatus;
+import org.skyline.mcq.domain.exceptions.ServiceUnavailableException;
+import org.skyline.mcq.domain.models.Answer;
+import org.skyline.mcq.domain.models.Result;
+import org.skyline.mcq.domain.utils.UuidV7Generator;
+import org.skyline.mcq.infrastructure.outputport.ResultRepository;
+import org.skyline.mcq.infrastructure.outputport.ResultWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "submission-mode", havingValue = "async")
+public class WriteBehindResultWriter implements ResultWriter, SmartLifecycle {
+
+    private final ResultRepository resultRepository;
+    private final ResultBatchWriter resultBatchWriter;
+    private final SubmissionJournal submissionJournal;
+    private final BlockingQueue<PendingSubmission> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final Cache<UUID, TrackedSubmission> submissions;
+    private final Deque<PendingSubmission> backlog = new ArrayDeque<>();
+    private final int batchSize;
+    private final long flushInterval;
+    private final long retryBackoff;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public WriteBehindResultWriter(ResultRepository resultRepository, ResultBatchWriter resultBatchWriter, SubmissionJournal submissionJournal,
+                                   @Value("${submission-queue-capacity:10000}") int queueCapacity,
+                                   @Value("${submission-batch-size:200}") int batchSize,
+                                   @Value("${submission-flush-interval:50}") long flushInterval,
+                                   @Value("${submission-retry-backoff:1000}") long retryBackoff,
+                                   @Value("${submission-status-ttl:600000}") long statusTtl) {
+        this.resultRepository = resultRepository;
+        this.resultBatchWriter = resultBatchWriter;
+        this.submissionJournal = submissionJournal;
+        this.capacity = new Semaphore(queueCapacity);
+        this.submissions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(statusTtl))
+                .build();
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Override
+    public SubmissionStatus write(Result result) {
+        if (!running) throw new ServiceUnavailableException("Survey submissions are not being accepted right now, please try again later");
+        if (!capacity.tryAcquire()) throw new ServiceUnavailableException("Too many survey submissions in progress, please try again later");
+
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        result.setId(UuidV7Generator.generate());
+        result.setCreatedAt(createdAt);
+        for (Answer answer : result.getAnswers()) {
+            answer.setId(UuidV7Generator.generate());
+            answer.setCreatedAt(createdAt);
+        }
+
+        PendingSubmission submission = PendingSubmission.of(result);
+        enqueueAfterCommit(submission);
+
+        return SubmissionStatus.PENDING;
+    }
+
+    private void enqueueAfterCommit(PendingSubmission submission) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(submission);
+            return;
+        }
+
+        // The submitting transaction also reserves the survey attempt, so the result is only journaled
+        // once that commit succeeded; a rolled back submission gives its queue slot back.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(submission);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) capacity.release();
+            }
+        });
+    }
+
+    private void enqueue(PendingSubmission submission) {
+        try {
+            submissionJournal.append(submission);
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+        submissions.put(submission.getId(), new TrackedSubmission(submission.getAccountId(), SubmissionStatus.PENDING));
+        queue.add(submission);
+    }
+
+    @Override
+    public Optional<SubmissionStatus> findStatus(UUID resultId, UUID accountId) {
+        TrackedSubmission tracked = submissions.getIfPresent(resultId);
+        if (tracked != null) return tracked.accountId().equals(accountId) ? Optional.of(tracked.status()) : Optional.empty();
+
+        return resultRepository.existsByIdAndAccountId(resultId, accountId) ? Optional.of(SubmissionStatus.PERSISTED) : Optional.empty();
+    }
+
+    @Override
+    public void start() {
+        List<PendingSubmission> recovered = submissionJournal.recover();
+        if (!recovered.isEmpty()) {
+            Set<UUID> persisted = resultBatchWriter.findExistingIds(recovered.stream().map(PendingSubmission::getId).toList());
+            submissionJournal.commit(persisted);
+            recovered.stream().filter(submission -> !persisted.contains(submission.getId())).forEach(submission -> {
+                submissions.put(submission.getId(), new TrackedSubmission(submission.getAccountId(), SubmissionStatus.PENDING));
+                backlog.add(submission);
+            });
+            log.info("Recovered {} pending survey submissions from the journal", backlog.size());
+        }
+
+        running = true;
+        writerThread = new Thread(this::drain, "submission-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) return;
+
+        try {
+            writerThread.join(Duration.ofSeconds(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        List<PendingSubmission> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty() || !backlog.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty() && !fill(batch)) continue;
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Could not persist {} survey submissions, retrying", batch.size(), e);
+                if (!running) return;
+                sleep(retryBackoff);
+            }
+        }
+    }
+
+    private boolean fill(List<PendingSubmission> batch) throws InterruptedException {
+        while (!backlog.isEmpty() && batch.size() < batchSize) batch.add(backlog.poll());
+        if (!batch.isEmpty()) return true;
+
+        PendingSubmission first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+        if (first == null) return false;
+
+        batch.add(first);
+        int drained = queue.drainTo(batch, batchSize - 1);
+        capacity.release(drained + 1);
+        return true;
+    }
+
+    private void flush(List<PendingSubmission> batch) {
+        try {
+            resultBatchWriter.insert(batch);
+            complete(batch, SubmissionStatus.PERSISTED);
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() > 1) {
+                batch.forEach(submission -> flush(List.of(submission)));
+                return;
+            }
+            // A retried batch or a replayed journal may contain a result an earlier attempt already inserted.
+            if (resultBatchWriter.findExistingIds(List.of(batch.getFirst().getId())).contains(batch.getFirst().getId())) {
+                complete(batch, SubmissionStatus.PERSISTED);
+                return;
+            }
+            log.error("Discarding survey submission {} that cannot be persisted", batch.getFirst().getId(), e);
+            complete(batch, SubmissionStatus.FAILED);
+        }
+    }
+
+    private void complete(List<PendingSubmission> batch, SubmissionStatus status) {
+        submissionJournal.commit(batch.stream().map(PendingSubmission::getId).toList());
+        batch.forEach(submission -> submissions.put(submission.getId(), new TrackedSubmission(submission.getAccountId(), status)));
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record TrackedSubmission(UUID accountId, SubmissionStatus status) {
+    }
+}
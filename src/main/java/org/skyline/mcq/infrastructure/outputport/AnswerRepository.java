@@ -1,13 +1,22 @@
 package org.skyline.mcq.infrastructure.outputport;
 
 import org.skyline.mcq.domain.models.Answer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
-public interface AnswerRepository extends JpaRepository<Answer, UUID> {
+public interface AnswerRepository extends JpaRepository<Answer, UUID>, AnswerSampleStreamRepository {
 
-    Page<Answer> findAllByResultId(UUID resultId, Pageable pageable);
+    @Query("SELECT a FROM Answer a WHERE a.result.id = :resultId")
+    Page<Answer> findAllByResultId(@Param("resultId") UUID resultId, Pageable pageable);
+
+    Window<Answer> findAllByResultId(UUID resultId, ScrollPosition position, Limit limit, Sort sort);
 }
@@ -0,0 +1,11 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import org.skyline.mcq.application.dtos.output.AnswerSampleDto;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface AnswerSampleStreamRepository {
+
+    Stream<AnswerSampleDto> streamSamplesBySurveyId(UUID surveyId);
+}
@@ -0,0 +1,23 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.output.AnswerSampleDto;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class AnswerSampleStreamRepositoryImpl implements AnswerSampleStreamRepository {
+
+    private static final String SAMPLES_BY_SURVEY = "SELECT new org.skyline.mcq.application.dtos.output.AnswerSampleDto(a.question.id, a.userAnswers, a.isCorrect, r.totalPoints) "
+            + "FROM Answer a JOIN a.result r WHERE r.survey.id = :surveyId";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Stream<AnswerSampleDto> streamSamplesBySurveyId(UUID surveyId) {
+        return StreamingQueries.stream(entityManager, entityManager.createQuery(SAMPLES_BY_SURVEY, AnswerSampleDto.class)
+                .setParameter("surveyId", surveyId));
+    }
+}
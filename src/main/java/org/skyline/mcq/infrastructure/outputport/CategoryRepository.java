@@ -1,17 +1,27 @@
 package org.skyline.mcq.infrastructure.outputport;
 
 import org.skyline.mcq.domain.models.Category;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
     Optional<Category> findByIdAndAccountId(UUID categoryId, UUID accountId);
-    Page<Category> findAllByActive(Boolean isActive, Pageable pageable);
-    Page<Category> findAllByTitleIsLikeIgnoreCaseAndActive(String title, Boolean isActive, Pageable pageable);
-    Page<Category> findAllByAccountIdAndActiveIsTrue(UUID accountId, Pageable pageable);
+    List<Category> findListByActive(Boolean isActive, Pageable pageable);
+    List<Category> findListByTitleIsLikeIgnoreCaseAndActive(String title, Boolean isActive, Pageable pageable);
+
+    @Query("SELECT c FROM Category c WHERE c.account.id = :accountId AND c.active = true")
+    List<Category> findListByAccountIdAndActiveIsTrue(@Param("accountId") UUID accountId, Pageable pageable);
+
+    long countByActive(Boolean isActive);
+    long countByTitleIsLikeIgnoreCaseAndActive(String title, Boolean isActive);
+
+    @Query("SELECT count(c) FROM Category c WHERE c.account.id = :accountId AND c.active = true")
+    long countByAccountIdAndActiveIsTrue(@Param("accountId") UUID accountId);
 }
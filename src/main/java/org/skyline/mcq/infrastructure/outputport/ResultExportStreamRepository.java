@@ -0,0 +1,11 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import org.skyline.mcq.application.dtos.output.ResultExportRowDto;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface ResultExportStreamRepository {
+
+    Stream<ResultExportRowDto> streamExportRowsBySurveyId(UUID surveyId);
+}
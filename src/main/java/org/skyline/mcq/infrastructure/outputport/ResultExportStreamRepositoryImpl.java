@@ -0,0 +1,23 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.output.ResultExportRowDto;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ResultExportStreamRepositoryImpl implements ResultExportStreamRepository {
+
+    private static final String EXPORT_ROWS_BY_SURVEY = "SELECT new org.skyline.mcq.application.dtos.output.ResultExportRowDto(r.id, a.id, a.username, r.startTime, r.endTime, r.duration, "
+            + "r.totalPoints, r.correctAnswers, r.incorrectAnswers, r.createdAt) FROM Result r JOIN r.account a WHERE r.survey.id = :surveyId ORDER BY r.createdAt, r.id";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Stream<ResultExportRowDto> streamExportRowsBySurveyId(UUID surveyId) {
+        return StreamingQueries.stream(entityManager, entityManager.createQuery(EXPORT_ROWS_BY_SURVEY, ResultExportRowDto.class)
+                .setParameter("surveyId", surveyId));
+    }
+}
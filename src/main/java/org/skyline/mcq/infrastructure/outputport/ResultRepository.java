@@ -1,17 +1,52 @@
 package org.skyline.mcq.infrastructure.outputport;
 
+import org.skyline.mcq.application.dtos.output.ScoreTallyDto;
 import org.skyline.mcq.domain.models.Result;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ResultRepository extends JpaRepository<Result, UUID> {
+public interface ResultRepository extends JpaRepository<Result, UUID>, ResultExportStreamRepository {
 
+    boolean existsByIdAndAccountId(UUID id, UUID accountId);
+    long countByAccountIdAndSurveyId(UUID accountId, UUID surveyId);
+    long countByAccountId(UUID accountId);
+    long countBySurveyId(UUID surveyId);
+
+    @Query("SELECT new org.skyline.mcq.application.dtos.output.ScoreTallyDto(r.totalPoints, count(r), coalesce(sum(r.duration), 0L)) FROM Result r WHERE r.survey.id = :surveyId GROUP BY r.totalPoints")
+    List<ScoreTallyDto> tallyScoresBySurveyId(@Param("surveyId") UUID surveyId);
+
+    @EntityGraph("Result.detail")
     Optional<Result> findByIdAndAccountId(UUID id, UUID accountId);
-    Page<Result> findAllByAccountIdAndSurveyId(UUID accountId, UUID surveyId, Pageable pageable);
-    Page<Result> findAllByAccountId(UUID accountId, Pageable pageable);
-    Page<Result> findAllBySurveyId(UUID surveyId, Pageable pageable);
+
+    @EntityGraph("Result.detail")
+    @Query("SELECT r FROM Result r WHERE r.account.id = :accountId AND r.survey.id = :surveyId")
+    List<Result> findListByAccountIdAndSurveyId(@Param("accountId") UUID accountId, @Param("surveyId") UUID surveyId, Pageable pageable);
+
+    @EntityGraph("Result.detail")
+    @Query("SELECT r FROM Result r WHERE r.account.id = :accountId")
+    List<Result> findListByAccountId(@Param("accountId") UUID accountId, Pageable pageable);
+
+    @EntityGraph("Result.detail")
+    @Query("SELECT r FROM Result r WHERE r.survey.id = :surveyId")
+    List<Result> findListBySurveyId(@Param("surveyId") UUID surveyId, Pageable pageable);
+
+    @EntityGraph("Result.detail")
+    Window<Result> findAllByAccountIdAndSurveyId(UUID accountId, UUID surveyId, ScrollPosition position, Limit limit, Sort sort);
+
+    @EntityGraph("Result.detail")
+    Window<Result> findAllByAccountId(UUID accountId, ScrollPosition position, Limit limit, Sort sort);
+
+    @EntityGraph("Result.detail")
+    Window<Result> findAllBySurveyId(UUID surveyId, ScrollPosition position, Limit limit, Sort sort);
 }
@@ -0,0 +1,13 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import org.skyline.mcq.domain.enums.SubmissionStatus;
+import org.skyline.mcq.domain.models.Result;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ResultWriter {
+
+    SubmissionStatus write(Result result);
+    Optional<SubmissionStatus> findStatus(UUID resultId, UUID accountId);
+}
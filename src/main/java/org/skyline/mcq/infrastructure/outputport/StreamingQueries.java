@@ -0,0 +1,28 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+final class StreamingQueries {
+
+    private static final int FETCH_SIZE = 500;
+
+    private StreamingQueries() {
+    }
+
+    /**
+     * Connector/J buffers the whole result set unless a statement asks for {@link Integer#MIN_VALUE} rows, which
+     * streams it row by row on that statement only. Other drivers honour a regular fetch size and reject a negative one.
+     */
+    static <T> Stream<T> stream(EntityManager entityManager, TypedQuery<T> query) {
+        boolean mysql = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, mysql ? Integer.MIN_VALUE : FETCH_SIZE).getResultStream();
+    }
+}
@@ -0,0 +1,18 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import org.skyline.mcq.domain.models.SurveyAttempt;
+import org.skyline.mcq.domain.models.SurveyAttemptId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SurveyAttemptRepository extends JpaRepository<SurveyAttempt, SurveyAttemptId>, SurveyAttemptUpsertRepository {
+
+    @Modifying
+    @Query("update SurveyAttempt a set a.attemptCount = a.attemptCount + 1, a.updatedAt = current_timestamp where a.id = :id and a.attemptCount < :maximum")
+    int incrementBelow(@Param("id") SurveyAttemptId id, @Param("maximum") int maximum);
+
+    @Query("select a.attemptCount from SurveyAttempt a where a.id = :id")
+    int findAttemptCountById(@Param("id") SurveyAttemptId id);
+}
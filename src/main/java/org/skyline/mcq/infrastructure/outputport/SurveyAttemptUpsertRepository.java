@@ -0,0 +1,8 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import java.util.UUID;
+
+public interface SurveyAttemptUpsertRepository {
+
+    void insertIfAbsent(UUID accountId, UUID surveyId);
+}
@@ -0,0 +1,33 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.skyline.mcq.domain.utils.UuidBinary;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class SurveyAttemptUpsertRepositoryImpl implements SurveyAttemptUpsertRepository {
+
+    // Both statements lock only the counter row itself: a duplicate key on InnoDB takes a record lock, never a gap lock.
+    private static final String MYSQL_INSERT_IF_ABSENT = "INSERT INTO survey_attempt (account_id, survey_id, attempt_count, updated_at) "
+            + "VALUES (:accountId, :surveyId, 0, CURRENT_TIMESTAMP(6)) ON DUPLICATE KEY UPDATE attempt_count = attempt_count";
+    private static final String MERGE_IF_ABSENT = "MERGE INTO survey_attempt t USING (VALUES (CAST(:accountId AS BINARY(16)), CAST(:surveyId AS BINARY(16)))) s (account_id, survey_id) "
+            + "ON t.account_id = s.account_id AND t.survey_id = s.survey_id "
+            + "WHEN NOT MATCHED THEN INSERT (account_id, survey_id, attempt_count, updated_at) VALUES (s.account_id, s.survey_id, 0, CURRENT_TIMESTAMP)";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void insertIfAbsent(UUID accountId, UUID surveyId) {
+        boolean mysql = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+
+        entityManager.createNativeQuery(mysql ? MYSQL_INSERT_IF_ABSENT : MERGE_IF_ABSENT)
+                .setParameter("accountId", UuidBinary.toBytes(accountId))
+                .setParameter("surveyId", UuidBinary.toBytes(surveyId))
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,12 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import org.skyline.mcq.application.dtos.output.SurveyListItemDto;
+import org.skyline.mcq.domain.specification.SurveyFilter;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface SurveyListingRepository {
+
+    List<SurveyListItemDto> findSurveyListItems(SurveyFilter filter, Pageable pageable);
+}
@@ -0,0 +1,52 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.skyline.mcq.application.dtos.output.SurveyListItemDto;
+import org.skyline.mcq.domain.models.Account;
+import org.skyline.mcq.domain.models.Category;
+import org.skyline.mcq.domain.models.Question;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.domain.specification.SurveyFilter;
+import org.skyline.mcq.domain.specification.SurveySpecifications;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SurveyListingRepositoryImpl implements SurveyListingRepository {
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<SurveyListItemDto> findSurveyListItems(SurveyFilter filter, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SurveyListItemDto> query = criteriaBuilder.createQuery(SurveyListItemDto.class);
+        Root<Survey> survey = query.from(Survey.class);
+        Join<Survey, Category> category = survey.join("category", JoinType.LEFT);
+        Join<Survey, Account> account = survey.join("account", JoinType.LEFT);
+
+        Subquery<Long> questionCount = query.subquery(Long.class);
+        Root<Question> question = questionCount.from(Question.class);
+        questionCount.select(criteriaBuilder.count(question)).where(criteriaBuilder.equal(question.get("survey"), survey));
+
+        query.select(criteriaBuilder.construct(SurveyListItemDto.class,
+                        survey.get("id"), survey.get("title"), survey.get("description"), survey.get("image"),
+                        survey.get("maxPoints"), survey.get("timeLimit"), survey.get("attempts"),
+                        survey.get("hasRestrictedAccess"), survey.get("status"), survey.get("active"),
+                        category.get("id"), category.get("title"), account.get("id"), account.get("username"),
+                        questionCount, survey.get("createdAt")))
+                .where(SurveySpecifications.matching(filter).toPredicate(survey, query, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_SORT, survey, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+}
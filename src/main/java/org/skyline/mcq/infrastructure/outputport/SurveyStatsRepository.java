@@ -0,0 +1,15 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import jakarta.persistence.LockModeType;
+import org.skyline.mcq.domain.models.SurveyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SurveyStatsRepository extends JpaRepository<SurveyStats, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<SurveyStats> findLockedBySurveyId(UUID surveyId);
+}
@@ -1,5 +1,6 @@
 package org.skyline.mcq.infrastructure.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +25,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final AccountDetailsInputPort accountDetailsInputPort;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
@@ -31,10 +33,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String token = this.parserJwt( request );
 
         if(token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            String username = this.jwtTokenProvider.extractUsername(token);
-            CustomUserDetails userDetails = (CustomUserDetails) accountDetailsInputPort.loadUserByUsername(username);
+            Claims claims = this.jwtTokenProvider.verifyToken(token);
+            CustomUserDetails userDetails = jwtTokenProvider.extractUserDetails(claims)
+                    .orElseGet(() -> (CustomUserDetails) accountDetailsInputPort.loadUserByUsername(claims.getSubject()));
 
-            if(Boolean.TRUE.equals(jwtTokenProvider.validateToken(token, userDetails.getEmail()))){
+            if(!tokenDenylist.isRevoked(userDetails.getId(), jwtTokenProvider.extractTokenVersion(claims))){
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -0,0 +1,44 @@
+package org.skyline.mcq.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TokenDenylist {
+
+    private final Cache<UUID, Long> revokedAccounts;
+    // Versions never repeat and never fall behind the wall clock in microseconds, so a token issued right
+    // after a logout always outranks it, and tokens issued before a restart still rank below later logouts.
+    private final AtomicLong versions = new AtomicLong();
+
+    public TokenDenylist(@Value("${token-expiration}") long tokenExpiration) {
+        this.revokedAccounts = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(tokenExpiration))
+                .build();
+    }
+
+    public long currentVersion() {
+        return versions.updateAndGet(version -> Math.max(version, now()));
+    }
+
+    public void revokeAccount(UUID accountId) {
+        revokedAccounts.put(accountId, versions.updateAndGet(version -> Math.max(version + 1, now())));
+    }
+
+    public boolean isRevoked(UUID accountId, Long tokenVersion) {
+        Long revokedVersion = revokedAccounts.getIfPresent(accountId);
+        return revokedVersion != null && (tokenVersion == null || tokenVersion < revokedVersion);
+    }
+
+    private static long now() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000 + now.getNano() / 1_000;
+    }
+}
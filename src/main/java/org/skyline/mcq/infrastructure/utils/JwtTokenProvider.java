@@ -1,31 +1,50 @@
 package org.skyline.mcq.infrastructure.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import org.skyline.mcq.application.dtos.input.RefreshTokenData;
 import org.skyline.mcq.application.dtos.output.AccountSummaryDto;
 import org.skyline.mcq.application.utils.CustomUserDetails;
 import org.skyline.mcq.infrastructure.inputport.JwtInputPort;
+import org.skyline.mcq.infrastructure.security.TokenDenylist;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenProvider implements JwtInputPort {
 
+    private static final String ACCOUNT_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
     @Value("${secret-key}")
     public  String secretKey;
 
@@ -35,6 +54,31 @@ public class JwtTokenProvider implements JwtInputPort {
     @Value("${refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    @Value("${token-cache-ttl:60000}")
+    private long tokenCacheTtl;
+
+    @Value("${token-cache-size:10000}")
+    private long tokenCacheSize;
+
+    private final TokenDenylist tokenDenylist;
+    private SecretKey signKey;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedTokens;
+
+    public JwtTokenProvider(TokenDenylist tokenDenylist) {
+        this.tokenDenylist = tokenDenylist;
+    }
+
+    @PostConstruct
+    void init() {
+        signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parser().verifyWith(signKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(tokenCacheTtl))
+                .maximumSize(tokenCacheSize)
+                .build();
+    }
+
     @Override
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -47,32 +91,64 @@ public class JwtTokenProvider implements JwtInputPort {
 
     @Override
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verifyToken(token));
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    @Override
+    public Claims verifyToken(String token) {
+        String tokenHash = hash(token);
+        Claims claims = verifiedTokens.getIfPresent(tokenHash);
+
+        if (claims == null) {
+            claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(tokenHash, claims);
+        } else if (claims.getExpiration().before(new Date())) {
+            verifiedTokens.invalidate(tokenHash);
+            throw new ExpiredJwtException(null, claims, "JWT expired at " + claims.getExpiration().toInstant());
+        }
+
+        return claims;
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     @Override
     public Boolean validateToken(String token, String username) {
-        final String usernameFromToken = extractUsername(token);
-        return (usernameFromToken.equals(username) && !isTokenExpired(token));
+        final Claims claims = verifyToken(token);
+        return (claims.getSubject().equals(username) && !claims.getExpiration().before(new Date()));
     }
 
     @Override
-    public String generateToken(String username){
+    public String generateToken(CustomUserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, username);
+        claims.put(ACCOUNT_ID_CLAIM, userDetails.getId().toString());
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        claims.put(TOKEN_VERSION_CLAIM, tokenDenylist.currentVersion());
+        return createToken(claims, userDetails.getEmail());
+    }
+
+    public Long extractTokenVersion(Claims claims) {
+        return claims.get(TOKEN_VERSION_CLAIM, Long.class);
+    }
+
+    @Override
+    public Optional<CustomUserDetails> extractUserDetails(Claims claims) {
+        String accountId = claims.get(ACCOUNT_ID_CLAIM, String.class);
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (accountId == null || roles == null) return Optional.empty();
+
+        return Optional.of(CustomUserDetails.builder()
+                .id(UUID.fromString(accountId))
+                .email(claims.getSubject())
+                .authorities(roles.stream().map(role -> new SimpleGrantedAuthority(role.toString())).toList())
+                .build());
     }
 
     private String createToken(Map<String, Object> claims, String username) {
@@ -81,14 +157,10 @@ public class JwtTokenProvider implements JwtInputPort {
                 .subject(username)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignKey(), Jwts.SIG.HS256)
+                .signWith(signKey, Jwts.SIG.HS256)
                 .compact();
     }
 
-    private SecretKey getSignKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
-    }
-
     @Override
     public String extractTokenFromRequest(HttpServletRequest request) {
         String authorizationHeader = request.getHeader("Authorization");
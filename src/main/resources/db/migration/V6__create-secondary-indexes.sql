@@ -0,0 +1,14 @@
+create unique index uk_account_email on account (email);
+create unique index uk_account_username on account (username);
+
+create index idx_role_name on role (name);
+
+create index idx_refresh_token_token on refresh_token (token);
+
+create index idx_category_active_title on category (active, title);
+create index idx_category_account_active on category (account_id, active);
+
+create index idx_survey_listing on survey (active, status, is_public, category_id);
+create index idx_survey_account_active on survey (account_id, active);
+
+create index idx_result_account_survey on result (account_id, survey_id);
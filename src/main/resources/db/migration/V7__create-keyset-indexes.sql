@@ -0,0 +1,6 @@
+create index idx_survey_created_id on survey (created_at, id);
+
+create index idx_result_account_created_id on result (account_id, created_at, id);
+create index idx_result_survey_created_id on result (survey_id, created_at, id);
+
+create index idx_answer_result_created_id on answer (result_id, created_at, id);
@@ -0,0 +1,38 @@
+drop table if exists survey_stats;
+
+create table survey_stats (
+    survey_id binary(16) NOT NULL,
+    attempt_count BIGINT,
+    score_sum BIGINT,
+    min_score int,
+    max_score int,
+    duration_sum BIGINT,
+    histogram json,
+    updated_at datetime(6),
+    primary key (survey_id),
+    CONSTRAINT FOREIGN KEY (survey_id) REFERENCES survey (id)
+) engine=InnoDB;
+
+insert into survey_stats (survey_id, attempt_count, score_sum, min_score, max_score, duration_sum, histogram, updated_at)
+select s.id,
+       count(r.id),
+       coalesce(sum(r.total_points), 0),
+       min(r.total_points),
+       max(r.total_points),
+       coalesce(sum(r.duration), 0),
+       json_array(count(case when r.bucket = 0 then 1 end), count(case when r.bucket = 1 then 1 end),
+                  count(case when r.bucket = 2 then 1 end), count(case when r.bucket = 3 then 1 end),
+                  count(case when r.bucket = 4 then 1 end), count(case when r.bucket = 5 then 1 end),
+                  count(case when r.bucket = 6 then 1 end), count(case when r.bucket = 7 then 1 end),
+                  count(case when r.bucket = 8 then 1 end), count(case when r.bucket = 9 then 1 end)),
+       now(6)
+from survey s
+left join (
+    select result.id, result.survey_id, result.total_points, result.duration,
+           case when survey.max_points > 0
+                then least(9, greatest(0, floor(coalesce(result.total_points, 0) * 10 / survey.max_points)))
+                else 0 end as bucket
+    from result
+    join survey on survey.id = result.survey_id
+) r on r.survey_id = s.id
+group by s.id;
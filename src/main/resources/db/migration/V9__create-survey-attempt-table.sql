@@ -0,0 +1,17 @@
+drop table if exists survey_attempt;
+
+create table survey_attempt (
+    account_id binary(16) NOT NULL,
+    survey_id binary(16) NOT NULL,
+    attempt_count int NOT NULL,
+    updated_at datetime(6),
+    primary key (account_id, survey_id),
+    CONSTRAINT FOREIGN KEY (account_id) REFERENCES account (id),
+    CONSTRAINT FOREIGN KEY (survey_id) REFERENCES survey (id)
+) engine=InnoDB;
+
+insert into survey_attempt (account_id, survey_id, attempt_count, updated_at)
+select account_id, survey_id, count(*), now(6)
+from result
+where account_id is not null and survey_id is not null
+group by account_id, survey_id;
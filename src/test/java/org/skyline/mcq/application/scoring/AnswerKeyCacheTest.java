@@ -0,0 +1,77 @@
+package org.skyline.mcq.application.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.skyline.mcq.domain.models.Question;
+import org.skyline.mcq.infrastructure.outputport.QuestionRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerKeyCacheTest {
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    private AnswerKeyCache answerKeyCache;
+    private UUID surveyId;
+    private Question questionTest;
+
+    @BeforeEach
+    void setUp() {
+        answerKeyCache = new AnswerKeyCache(questionRepository, new ObjectMapper(), 10);
+        surveyId = UUID.randomUUID();
+
+        questionTest = Question.builder()
+                .id(UUID.randomUUID())
+                .points(10)
+                .allowedAnswers(1)
+                .options("[\"Paris\", \"London\", \"Berlin\", \"Madrid\"]")
+                .correctAnswers("[\"Paris\"]")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Get: Should compile the answer key once and serve it from the cache afterwards")
+    void testGetCachesAnswerKey() {
+        given(questionRepository.findAllBySurveyId(surveyId)).willReturn(List.of(questionTest));
+
+        var first = answerKeyCache.get(surveyId);
+        var second = answerKeyCache.get(surveyId);
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertNotNull(first.getQuestion(questionTest.getId()))
+        );
+
+        verify(questionRepository, times(1)).findAllBySurveyId(surveyId);
+    }
+
+    @Test
+    @DisplayName("Invalidate: Should recompile the answer key on the next request")
+    void testInvalidate() {
+        given(questionRepository.findAllBySurveyId(surveyId)).willReturn(List.of(questionTest), List.of());
+
+        var first = answerKeyCache.get(surveyId);
+        answerKeyCache.invalidate(surveyId);
+        var second = answerKeyCache.get(surveyId);
+
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertEquals(1, first.size()),
+                () -> assertEquals(0, second.size())
+        );
+
+        verify(questionRepository, times(2)).findAllBySurveyId(surveyId);
+    }
+}
@@ -0,0 +1,78 @@
+package org.skyline.mcq.application.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.domain.models.Question;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionAnalyticsAccumulatorTest {
+
+    private QuestionAnalyticsAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        Question question = Question.builder()
+                .id(UUID.randomUUID())
+                .points(10)
+                .allowedAnswers(1)
+                .options("[\"Paris\", \"London\", \"Berlin\"]")
+                .correctAnswers("[\"Paris\"]")
+                .build();
+
+        accumulator = new QuestionAnalyticsAccumulator(QuestionAnswerKey.of(question, new ObjectMapper()));
+    }
+
+    @Test
+    @DisplayName("Analytics: Should report percent correct and option selection frequencies")
+    void testOptionFrequencies() {
+        accumulator.add("[\"Paris\"]", true, 90);
+        accumulator.add("[\"Paris\"]", true, 80);
+        accumulator.add("[\"London\"]", false, 30);
+        accumulator.add("[\"Rome\"]", false, 20);
+
+        var analytics = accumulator.toDto();
+        var paris = analytics.getOptions().stream().filter(option -> option.getOption().equals("Paris")).findFirst().orElseThrow();
+        var berlin = analytics.getOptions().stream().filter(option -> option.getOption().equals("Berlin")).findFirst().orElseThrow();
+
+        assertAll(
+                () -> assertEquals(4L, analytics.getResponseCount()),
+                () -> assertEquals(50.0, analytics.getPercentCorrect()),
+                () -> assertEquals(1L, analytics.getUnrecognizedSelections()),
+                () -> assertEquals(3, analytics.getOptions().size()),
+                () -> assertTrue(paris.getCorrect()),
+                () -> assertEquals(2L, paris.getCount()),
+                () -> assertEquals(0.5, paris.getRate()),
+                () -> assertEquals(0L, berlin.getCount())
+        );
+    }
+
+    @Test
+    @DisplayName("Analytics: Should give a positive discrimination index when stronger respondents answer correctly")
+    void testDiscriminationIndex() {
+        accumulator.add("[\"Paris\"]", true, 90);
+        accumulator.add("[\"Paris\"]", true, 80);
+        accumulator.add("[\"London\"]", false, 30);
+        accumulator.add("[\"Berlin\"]", false, 20);
+
+        // Mean 55, population deviation sqrt(925) and p = 0.5, so (85 - 25) / 30.41 * 0.5.
+        assertEquals(0.986, accumulator.toDto().getDiscriminationIndex(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Analytics: Should leave ratios empty when nobody answered the question")
+    void testNoResponses() {
+        var analytics = accumulator.toDto();
+
+        assertAll(
+                () -> assertEquals(0L, analytics.getResponseCount()),
+                () -> assertNull(analytics.getPercentCorrect()),
+                () -> assertNull(analytics.getDiscriminationIndex()),
+                () -> assertNull(analytics.getOptions().getFirst().getRate())
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package org.skyline.mcq.application.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.domain.models.Question;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringStrategyTest {
+
+    private final ScoringStrategy partialCredit = new PartialCreditScoringStrategy();
+    private final ScoringStrategy exactMatch = new ExactMatchScoringStrategy();
+    private final ScoringStrategy negativeMarking = new NegativeMarkingScoringStrategy();
+
+    private QuestionAnswerKey questionKey;
+    private long allCorrect;
+    private long halfCorrect;
+    private long halfCorrectAndWrong;
+    private long wrongOnly;
+
+    @BeforeEach
+    void setUp() {
+        Question question = Question.builder()
+                .id(UUID.randomUUID())
+                .points(10)
+                .allowedAnswers(2)
+                .options("[\"Python\", \"HTML\", \"Java\", \"CSS\"]")
+                .correctAnswers("[\"Python\", \"Java\"]")
+                .build();
+
+        questionKey = QuestionAnswerKey.of(question, new ObjectMapper());
+        allCorrect = questionKey.encode("[\"Python\", \"Java\"]");
+        halfCorrect = questionKey.encode("[\"Java\"]");
+        halfCorrectAndWrong = questionKey.encode("[\"Java\", \"CSS\"]");
+        wrongOnly = questionKey.encode("[\"HTML\"]");
+    }
+
+    @Test
+    @DisplayName("Encode: Should map selections to option bits and flag anything unknown")
+    void testEncode() {
+        assertAll(
+                () -> assertEquals(questionKey.getCorrectMask(), allCorrect),
+                () -> assertEquals(0, wrongOnly & questionKey.getCorrectMask()),
+                () -> assertEquals(0, questionKey.encode(null)),
+                () -> assertEquals(0, questionKey.encode("[]")),
+                () -> assertEquals(QuestionAnswerKey.UNKNOWN_SELECTION, questionKey.encode("[\"Rust\"]")),
+                () -> assertEquals(QuestionAnswerKey.UNKNOWN_SELECTION, questionKey.encode("{\"Python\":[1]}")),
+                () -> assertEquals(QuestionAnswerKey.UNKNOWN_SELECTION, questionKey.encode("not json"))
+        );
+    }
+
+    @Test
+    @DisplayName("Partial Credit: Should award points in proportion to the correct selections")
+    void testPartialCredit() {
+        assertAll(
+                () -> assertTrue(partialCredit.isCorrect(questionKey, allCorrect)),
+                () -> assertEquals(10, partialCredit.score(questionKey, allCorrect)),
+                () -> assertFalse(partialCredit.isCorrect(questionKey, halfCorrect)),
+                () -> assertEquals(5, partialCredit.score(questionKey, halfCorrect)),
+                () -> assertEquals(5, partialCredit.score(questionKey, halfCorrectAndWrong)),
+                () -> assertEquals(0, partialCredit.score(questionKey, wrongOnly))
+        );
+    }
+
+    @Test
+    @DisplayName("Exact Match: Should award points only when the selection equals the answer key")
+    void testExactMatch() {
+        long allSelected = allCorrect | wrongOnly;
+
+        assertAll(
+                () -> assertTrue(exactMatch.isCorrect(questionKey, allCorrect)),
+                () -> assertEquals(10, exactMatch.score(questionKey, allCorrect)),
+                () -> assertFalse(exactMatch.isCorrect(questionKey, halfCorrect)),
+                () -> assertEquals(0, exactMatch.score(questionKey, halfCorrect)),
+                () -> assertFalse(exactMatch.isCorrect(questionKey, allSelected)),
+                () -> assertEquals(0, exactMatch.score(questionKey, allSelected))
+        );
+    }
+
+    @Test
+    @DisplayName("Negative Marking: Should deduct credit for every wrong selection")
+    void testNegativeMarking() {
+        assertAll(
+                () -> assertTrue(negativeMarking.isCorrect(questionKey, allCorrect)),
+                () -> assertEquals(10, negativeMarking.score(questionKey, allCorrect)),
+                () -> assertEquals(5, negativeMarking.score(questionKey, halfCorrect)),
+                () -> assertEquals(0, negativeMarking.score(questionKey, halfCorrectAndWrong)),
+                () -> assertEquals(-5, negativeMarking.score(questionKey, wrongOnly))
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package org.skyline.mcq.application.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.domain.models.Question;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SurveyAnswerKeyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Question objectQuestion;
+    private Question arrayQuestion;
+
+    @BeforeEach
+    void setUp() {
+        objectQuestion = Question.builder()
+                .id(UUID.randomUUID())
+                .points(2)
+                .allowedAnswers(1)
+                .options("{\"optionA\":\"Refresco\",\"optionB\":\"Agua\",\"optionC\":\"Cerveza\",\"optionD\":\"Jugo\"}")
+                .correctAnswers("{\"optionC\":\"Cerveza\"}")
+                .build();
+
+        arrayQuestion = Question.builder()
+                .id(UUID.randomUUID())
+                .points(15)
+                .allowedAnswers(2)
+                .options("[\"Python\", \"HTML\", \"Java\", \"CSS\"]")
+                .correctAnswers("[\"Python\", \"Java\"]")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Compile: Should index every question of the survey by its ID")
+    void testCompileSurvey() {
+        UUID surveyId = UUID.randomUUID();
+
+        var answerKey = SurveyAnswerKey.of(surveyId, List.of(objectQuestion, arrayQuestion), objectMapper);
+
+        assertAll(
+                () -> assertEquals(surveyId, answerKey.getSurveyId()),
+                () -> assertEquals(2, answerKey.size()),
+                () -> assertNotNull(answerKey.getQuestion(objectQuestion.getId())),
+                () -> assertNotNull(answerKey.getQuestion(arrayQuestion.getId())),
+                () -> assertNull(answerKey.getQuestion(UUID.randomUUID()))
+        );
+    }
+
+    @Test
+    @DisplayName("Compile: Should build the correct option mask from a JSON object")
+    void testCompileObjectQuestion() {
+        var questionKey = QuestionAnswerKey.of(objectQuestion, objectMapper);
+
+        long selected = questionKey.bitOf("optionC", "Cerveza");
+
+        assertAll(
+                () -> assertEquals(1, questionKey.getCorrectCount()),
+                () -> assertEquals(2, questionKey.getPoints()),
+                () -> assertEquals(1, questionKey.getAllowedAnswers()),
+                () -> assertEquals(selected, questionKey.getCorrectMask()),
+                () -> assertEquals(0, questionKey.bitOf("optionD", "Jugo") & questionKey.getCorrectMask()),
+                () -> assertEquals(QuestionAnswerKey.UNKNOWN_SELECTION, questionKey.bitOf("optionC", "Jugo")),
+                () -> assertEquals(QuestionAnswerKey.UNKNOWN_SELECTION, questionKey.bitOf("optionZ", "Cerveza"))
+        );
+    }
+
+    @Test
+    @DisplayName("Compile: Should build the correct option mask from a JSON array")
+    void testCompileArrayQuestion() {
+        var questionKey = QuestionAnswerKey.of(arrayQuestion, objectMapper);
+
+        long selected = questionKey.bitOf("Python", "Python") | questionKey.bitOf("Java", "Java");
+
+        assertAll(
+                () -> assertEquals(2, questionKey.getCorrectCount()),
+                () -> assertEquals(selected, questionKey.getCorrectMask()),
+                () -> assertEquals(0, questionKey.bitOf("CSS", "CSS") & questionKey.getCorrectMask())
+        );
+    }
+
+    @Test
+    @DisplayName("Compile: Should produce an empty key when the stored answers are not valid JSON")
+    void testCompileInvalidJson() {
+        objectQuestion.setOptions("{a, b, c, d, e}");
+        objectQuestion.setCorrectAnswers("{b, d}");
+
+        var questionKey = QuestionAnswerKey.of(objectQuestion, objectMapper);
+
+        assertAll(
+                () -> assertEquals(0, questionKey.getCorrectCount()),
+                () -> assertEquals(0, questionKey.getCorrectMask()),
+                () -> assertEquals(QuestionAnswerKey.UNKNOWN_SELECTION, questionKey.bitOf("b", "b"))
+        );
+    }
+}
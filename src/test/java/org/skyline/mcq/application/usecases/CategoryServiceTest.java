@@ -6,10 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.skyline.mcq.application.dtos.input.CategoryRequestDto;
 import org.skyline.mcq.application.dtos.output.CategoryResponseDto;
 import org.skyline.mcq.application.mappings.CategoryMapper;
+import org.skyline.mcq.application.utils.PageCountCache;
 import org.skyline.mcq.application.utils.PaginationHelper;
 import org.skyline.mcq.domain.models.Account;
 import org.skyline.mcq.domain.models.Category;
@@ -42,6 +44,9 @@ class CategoryServiceTest {
     @Mock
     private PaginationHelper paginationHelper;
 
+    @Spy
+    private PageCountCache pageCountCache = new PageCountCache(100, 5000);
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -158,7 +163,7 @@ class CategoryServiceTest {
     void testListCategoriesByAccountId() {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
-        given(categoryRepository.findAllByAccountIdAndActiveIsTrue(accountId, pageable)).willReturn(categoryPage);
+        given(categoryRepository.findListByAccountIdAndActiveIsTrue(accountId, pageable)).willReturn(categoryPage.getContent());
         given(categoryMapper.categoryToCategoryResponseDto(any(Category.class))).willReturn(categoryResponseDtoTest);
 
         Page<CategoryResponseDto> result = categoryService.listCategories(accountId, null, null, 0, 10);
@@ -168,7 +173,7 @@ class CategoryServiceTest {
             assertEquals(2, result.getContent().size());
         });
 
-        verify(categoryRepository, times(1)).findAllByAccountIdAndActiveIsTrue(accountId, pageable);
+        verify(categoryRepository, times(1)).findListByAccountIdAndActiveIsTrue(accountId, pageable);
         verify(categoryMapper, times(2)).categoryToCategoryResponseDto(any(Category.class));
     }
 
@@ -177,7 +182,7 @@ class CategoryServiceTest {
     void testListCategoriesByTitleActive() {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
-        given(categoryRepository.findAllByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", true, pageable)).willReturn(categoryPage);
+        given(categoryRepository.findListByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", true, pageable)).willReturn(categoryPage.getContent());
         given(categoryMapper.categoryToCategoryResponseDto(any(Category.class))).willReturn(categoryResponseDtoTest);
 
         Page<CategoryResponseDto> result = categoryService.listCategories(null, title, true, 0, 10);
@@ -187,7 +192,7 @@ class CategoryServiceTest {
             assertEquals(2, result.getContent().size());
         });
 
-        verify(categoryRepository, times(1)).findAllByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", true, pageable);
+        verify(categoryRepository, times(1)).findListByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", true, pageable);
         verify(categoryMapper, times(2)).categoryToCategoryResponseDto(any(Category.class));
     }
 
@@ -196,7 +201,7 @@ class CategoryServiceTest {
     void testListCategoriesByTitleInactive() {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
-        given(categoryRepository.findAllByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", false, pageable)).willReturn(categoryPage);
+        given(categoryRepository.findListByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", false, pageable)).willReturn(categoryPage.getContent());
         given(categoryMapper.categoryToCategoryResponseDto(any(Category.class))).willReturn(categoryResponseDtoTest);
 
         Page<CategoryResponseDto> result = categoryService.listCategories(null, title, false, 0, 10);
@@ -206,7 +211,7 @@ class CategoryServiceTest {
             assertEquals(2, result.getContent().size());
         });
 
-        verify(categoryRepository, times(1)).findAllByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", false, pageable);
+        verify(categoryRepository, times(1)).findListByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", false, pageable);
         verify(categoryMapper, times(2)).categoryToCategoryResponseDto(any(Category.class));
     }
 
@@ -223,7 +228,7 @@ class CategoryServiceTest {
             assertEquals(0, result.getContent().size());
         });
 
-        verify(categoryRepository, never()).findAllByTitleIsLikeIgnoreCaseAndActive("%%", true, pageable);
+        verify(categoryRepository, never()).findListByTitleIsLikeIgnoreCaseAndActive("%%", true, pageable);
         verify(categoryMapper, never()).categoryToCategoryResponseDto(any(Category.class));
     }
 
@@ -240,7 +245,7 @@ class CategoryServiceTest {
             assertEquals(0, result.getContent().size());
         });
 
-        verify(categoryRepository, never()).findAllByTitleIsLikeIgnoreCaseAndActive("%category%", null, pageable);
+        verify(categoryRepository, never()).findListByTitleIsLikeIgnoreCaseAndActive("%category%", null, pageable);
         verify(categoryMapper, never()).categoryToCategoryResponseDto(any(Category.class));
     }
 
@@ -249,7 +254,7 @@ class CategoryServiceTest {
     void testListCategoriesActives() {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
-        given(categoryRepository.findAllByActive(true, pageable)).willReturn(categoryPage);
+        given(categoryRepository.findListByActive(true, pageable)).willReturn(categoryPage.getContent());
         given(categoryMapper.categoryToCategoryResponseDto(any(Category.class))).willReturn(categoryResponseDtoTest);
 
         Page<CategoryResponseDto> result = categoryService.listCategories(null, null, true, 0, 10);
@@ -259,7 +264,7 @@ class CategoryServiceTest {
             assertEquals(2, result.getContent().size());
         });
 
-        verify(categoryRepository, times(1)).findAllByActive(true, pageable);
+        verify(categoryRepository, times(1)).findListByActive(true, pageable);
         verify(categoryMapper, times(2)).categoryToCategoryResponseDto(any(Category.class));
     }
 
@@ -268,7 +273,7 @@ class CategoryServiceTest {
     void testListCategoriesInactive() {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
-        given(categoryRepository.findAllByActive(false, pageable)).willReturn(categoryPage);
+        given(categoryRepository.findListByActive(false, pageable)).willReturn(categoryPage.getContent());
         given(categoryMapper.categoryToCategoryResponseDto(any(Category.class))).willReturn(categoryResponseDtoTest);
 
         Page<CategoryResponseDto> result = categoryService.listCategories(null, null, false, 0, 10);
@@ -278,7 +283,7 @@ class CategoryServiceTest {
             assertEquals(2, result.getContent().size());
         });
 
-        verify(categoryRepository, times(1)).findAllByActive(false, pageable);
+        verify(categoryRepository, times(1)).findListByActive(false, pageable);
         verify(categoryMapper, times(2)).categoryToCategoryResponseDto(any(Category.class));
     }
 
@@ -295,7 +300,7 @@ class CategoryServiceTest {
             assertEquals(0, result.getContent().size());
         });
 
-        verify(categoryRepository, never()).findAllByActive(false, pageable);
+        verify(categoryRepository, never()).findListByActive(false, pageable);
         verify(categoryMapper, never()).categoryToCategoryResponseDto(any(Category.class));
     }
 
@@ -304,7 +309,7 @@ class CategoryServiceTest {
     void testListCategoriesEmpty() {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
-        given(categoryRepository.findAllByAccountIdAndActiveIsTrue(accountId, pageable)).willReturn(Page.empty());
+        given(categoryRepository.findListByAccountIdAndActiveIsTrue(accountId, pageable)).willReturn(List.of());
 
         Page<CategoryResponseDto> result = categoryService.listCategories(accountId, null, null, 0, 10);
 
@@ -313,7 +318,7 @@ class CategoryServiceTest {
             assertEquals(0, result.getContent().size());
         });
 
-        verify(categoryRepository, times(1)).findAllByAccountIdAndActiveIsTrue(accountId, pageable);
+        verify(categoryRepository, times(1)).findListByAccountIdAndActiveIsTrue(accountId, pageable);
         verify(categoryMapper, never()).categoryToCategoryResponseDto(any(Category.class));
     }
 
@@ -416,7 +421,7 @@ class CategoryServiceTest {
     @DisplayName("List Categories by Account ID: Should return a page of active categories for a given accountId")
     void testListCategoryByAccountId() {
 
-        given(categoryRepository.findAllByAccountIdAndActiveIsTrue(accountId, pageable)).willReturn(categoryPage);
+        given(categoryRepository.findListByAccountIdAndActiveIsTrue(accountId, pageable)).willReturn(categoryPage.getContent());
 
         Page<Category> result = categoryService.listCategoryByAccountId(accountId, pageable);
 
@@ -432,14 +437,14 @@ class CategoryServiceTest {
             assertEquals("image1.png", category.getImage(), "The category image should be 'image1.png'");
         });
 
-        verify(categoryRepository, times(1)).findAllByAccountIdAndActiveIsTrue(accountId, pageable);
+        verify(categoryRepository, times(1)).findListByAccountIdAndActiveIsTrue(accountId, pageable);
     }
 
     @Test
     @DisplayName("List Categories by Title: Should return a page of active categories for a given title")
     void testListCategoryByTitleActive() {
 
-        given(categoryRepository.findAllByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", true, pageable)).willReturn(categoryPage);
+        given(categoryRepository.findListByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", true, pageable)).willReturn(categoryPage.getContent());
 
         Page<Category> result = categoryService.listCategoryByTitle(title, true, pageable);
 
@@ -455,19 +460,19 @@ class CategoryServiceTest {
             assertEquals("image1.png", category.getImage(), "The category image should be 'image1.png'");
         });
 
-        verify(categoryRepository, times(1)).findAllByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", true, pageable);
+        verify(categoryRepository, times(1)).findListByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", true, pageable);
     }
 
     @Test
     @DisplayName("List Categories by Title: Should return an empty page when no active categories match the title")
     void testListCategoryByTitleInactive() {
 
-        given(categoryRepository.findAllByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", false, pageable)).willReturn(Page.empty());
+        given(categoryRepository.findListByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", false, pageable)).willReturn(List.of());
 
         Page<Category> result = categoryService.listCategoryByTitle(title, false, pageable);
 
         assertTrue(result.isEmpty(), "The category page should be empty");
 
-        verify(categoryRepository, times(1)).findAllByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", false, pageable);
+        verify(categoryRepository, times(1)).findListByTitleIsLikeIgnoreCaseAndActive("%" + title + "%", false, pageable);
     }
 }
\ No newline at end of file
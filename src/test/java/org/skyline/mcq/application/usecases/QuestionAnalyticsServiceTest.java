@@ -0,0 +1,102 @@
+package org.skyline.mcq.application.usecases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.skyline.mcq.application.dtos.output.AnswerSampleDto;
+import org.skyline.mcq.application.scoring.AnswerKeyCache;
+import org.skyline.mcq.application.scoring.SurveyAnswerKey;
+import org.skyline.mcq.application.utils.QuestionAnalyticsCache;
+import org.skyline.mcq.domain.models.Question;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.infrastructure.outputport.AnswerRepository;
+import org.skyline.mcq.infrastructure.outputport.SurveyRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionAnalyticsServiceTest {
+
+    @Mock
+    private SurveyRepository surveyRepository;
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    @Mock
+    private AnswerKeyCache answerKeyCache;
+
+    @Spy
+    private QuestionAnalyticsCache questionAnalyticsCache = new QuestionAnalyticsCache(100, 300000);
+
+    @InjectMocks
+    private QuestionAnalyticsService questionAnalyticsService;
+
+    private Survey surveyTest;
+    private Question questionTest;
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountId = UUID.randomUUID();
+        surveyTest = Survey.builder()
+                .id(UUID.randomUUID())
+                .active(true)
+                .build();
+        questionTest = Question.builder()
+                .id(UUID.randomUUID())
+                .points(10)
+                .allowedAnswers(1)
+                .options("[\"Paris\", \"London\"]")
+                .correctAnswers("[\"Paris\"]")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Find Question Analytics: Should aggregate the streamed answers once and serve repeats from the cache")
+    void testFindQuestionAnalytics() {
+        given(surveyRepository.findByIdAndAccountId(surveyTest.getId(), accountId)).willReturn(Optional.of(surveyTest));
+        given(answerKeyCache.get(surveyTest.getId())).willReturn(SurveyAnswerKey.of(surveyTest.getId(), List.of(questionTest), new ObjectMapper()));
+        given(answerRepository.streamSamplesBySurveyId(surveyTest.getId())).willReturn(Stream.of(
+                new AnswerSampleDto(questionTest.getId(), "[\"Paris\"]", true, 10),
+                new AnswerSampleDto(questionTest.getId(), "[\"London\"]", false, 0),
+                new AnswerSampleDto(UUID.randomUUID(), "[\"Paris\"]", true, 10)
+        ));
+
+        var analytics = questionAnalyticsService.findQuestionAnalytics(surveyTest.getId(), accountId).orElseThrow();
+        questionAnalyticsService.findQuestionAnalytics(surveyTest.getId(), accountId);
+
+        assertAll(
+                () -> assertEquals(1, analytics.size()),
+                () -> assertEquals(questionTest.getId(), analytics.getFirst().getQuestionId()),
+                () -> assertEquals(2L, analytics.getFirst().getResponseCount()),
+                () -> assertEquals(50.0, analytics.getFirst().getPercentCorrect())
+        );
+
+        verify(answerRepository, times(1)).streamSamplesBySurveyId(surveyTest.getId());
+    }
+
+    @Test
+    @DisplayName("Find Question Analytics: Should return empty when the survey belongs to another account")
+    void testFindQuestionAnalyticsNotOwned() {
+        given(surveyRepository.findByIdAndAccountId(surveyTest.getId(), accountId)).willReturn(Optional.empty());
+
+        assertTrue(questionAnalyticsService.findQuestionAnalytics(surveyTest.getId(), accountId).isEmpty());
+
+        verify(answerRepository, never()).streamSamplesBySurveyId(any());
+    }
+}
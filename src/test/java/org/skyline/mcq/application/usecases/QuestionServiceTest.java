@@ -11,6 +11,9 @@ import org.skyline.mcq.application.dtos.input.QuestionRequestDto;
 import org.skyline.mcq.application.dtos.input.QuestionUpdateRequestDto;
 import org.skyline.mcq.application.dtos.output.QuestionResponseDto;
 import org.skyline.mcq.application.mappings.QuestionMapper;
+import org.skyline.mcq.application.scoring.AnswerKeyCache;
+import org.skyline.mcq.application.utils.QuestionAnalyticsCache;
+import org.skyline.mcq.application.utils.SurveySnapshotCache;
 import org.skyline.mcq.domain.models.Account;
 import org.skyline.mcq.domain.models.Question;
 import org.skyline.mcq.domain.models.Survey;
@@ -36,6 +39,15 @@ class QuestionServiceTest {
     @Mock
     private QuestionMapper questionMapper;
 
+    @Mock
+    private AnswerKeyCache answerKeyCache;
+
+    @Mock
+    private SurveySnapshotCache surveySnapshotCache;
+
+    @Mock
+    private QuestionAnalyticsCache questionAnalyticsCache;
+
     @InjectMocks
     private QuestionService questionService;
 
@@ -82,6 +94,7 @@ class QuestionServiceTest {
                 .allowedAnswers(2)
                 .options("{a, b, c, d, e}")
                 .correctAnswers("{b, d}")
+                .survey(surveyTest)
                 .build();
 
         questionResponseDtoTest = QuestionResponseDto.builder()
@@ -135,6 +148,8 @@ class QuestionServiceTest {
         verify(questionMapper).questionRequestDtoToQuestion(questionRequestDtoTest);
         verify(questionRepository).save(questionTest);
         verify(questionMapper).questionToQuestionResponseDto(questionTest);
+        verify(answerKeyCache).invalidate(surveyTest.getId());
+        verify(surveySnapshotCache).invalidate(surveyTest.getId());
     }
 
     @Test
@@ -153,6 +168,8 @@ class QuestionServiceTest {
         verify(surveyRepository).findById(questionRequestDtoTest.getSurveyId());
         verify(questionRepository, never()).save(questionTest);
         verify(questionMapper, never()).questionToQuestionResponseDto(questionTest);
+        verify(answerKeyCache, never()).invalidate(any());
+        verify(surveySnapshotCache, never()).invalidate(any());
     }
 
     @Test
@@ -248,6 +265,8 @@ class QuestionServiceTest {
         verify(questionRepository).save(questionTest);
         verify(questionMapper).updateQuestionFromQuestionRequestDto(questionUpdateRequestDto, questionTest);
         verify(questionMapper).questionToQuestionResponseDto(questionTest);
+        verify(answerKeyCache).invalidate(surveyTest.getId());
+        verify(surveySnapshotCache).invalidate(surveyTest.getId());
     }
 
     @Test
@@ -267,6 +286,8 @@ class QuestionServiceTest {
         verify(questionRepository, never()).save(questionTest);
         verify(questionMapper, never()).updateQuestionFromQuestionRequestDto(questionUpdateRequestDto, questionTest);
         verify(questionMapper, never()).questionToQuestionResponseDto(questionTest);
+        verify(answerKeyCache, never()).invalidate(any());
+        verify(surveySnapshotCache, never()).invalidate(any());
     }
 
     @Test
@@ -284,6 +305,8 @@ class QuestionServiceTest {
 
         verify(questionRepository).findByIdAndSurveyAccountId(questionTest.getId(), accountTest.getId());
         verify(questionRepository).delete(questionTest);
+        verify(answerKeyCache).invalidate(surveyTest.getId());
+        verify(surveySnapshotCache).invalidate(surveyTest.getId());
     }
 
     @Test
@@ -301,5 +324,7 @@ class QuestionServiceTest {
 
         verify(questionRepository).findByIdAndSurveyAccountId(questionTest.getId(), accountTest.getId());
         verify(questionRepository, never()).delete(questionTest);
+        verify(answerKeyCache, never()).invalidate(any());
+        verify(surveySnapshotCache, never()).invalidate(any());
     }
 }
\ No newline at end of file
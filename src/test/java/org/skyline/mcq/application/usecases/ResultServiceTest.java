@@ -6,9 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.skyline.mcq.application.dtos.output.ResultExportRowDto;
 import org.skyline.mcq.application.dtos.output.ResultResponseDto;
 import org.skyline.mcq.application.mappings.ResultMapper;
+import org.skyline.mcq.application.utils.PageCountCache;
 import org.skyline.mcq.application.utils.PaginationHelper;
 import org.skyline.mcq.domain.models.Account;
 import org.skyline.mcq.domain.models.Result;
@@ -17,12 +20,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import java.io.StringWriter;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -39,6 +45,9 @@ class ResultServiceTest {
     @Mock
     private PaginationHelper paginationHelper;
 
+    @Spy
+    private PageCountCache pageCountCache = new PageCountCache(100, 5000);
+
     @InjectMocks
     private ResultService resultService;
 
@@ -143,7 +152,7 @@ class ResultServiceTest {
     void testListResultBySurveyId() {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
-        given(resultRepository.findAllByAccountId(resultTest.getId(), pageable)).willReturn(resultPage);
+        given(resultRepository.findListBySurveyId(resultTest.getId(), pageable)).willReturn(resultPage.getContent());
         given(resultMapper.resultToResultResponseDto(resultTest)).willReturn(resultResponseDtoTest);
 
         Page<ResultResponseDto> resultResponseDtoPage = resultService.listResultBySurveyId(resultTest.getId(), 0, 10);
@@ -160,7 +169,7 @@ class ResultServiceTest {
         });
 
         verify(paginationHelper).buildPageRequest(0, 10);
-        verify(resultRepository).findAllByAccountId(resultTest.getId(), pageable);
+        verify(resultRepository).findListBySurveyId(resultTest.getId(), pageable);
         verify(resultMapper).resultToResultResponseDto(resultTest);
     }
 
@@ -169,7 +178,7 @@ class ResultServiceTest {
     void testListResultByAccountId() {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
-        given(resultRepository.findAllByAccountId(resultTest.getId(), pageable)).willReturn(resultPage);
+        given(resultRepository.findListByAccountId(resultTest.getId(), pageable)).willReturn(resultPage.getContent());
         given(resultMapper.resultToResultResponseDto(resultTest)).willReturn(resultResponseDtoTest);
 
         Page<ResultResponseDto> resultResponseDtoPage = resultService.listResultByAccountId(resultTest.getId(), 0, 10);
@@ -186,7 +195,7 @@ class ResultServiceTest {
         });
 
         verify(paginationHelper).buildPageRequest(0, 10);
-        verify(resultRepository).findAllByAccountId(resultTest.getId(), pageable);
+        verify(resultRepository).findListByAccountId(resultTest.getId(), pageable);
         verify(resultMapper).resultToResultResponseDto(resultTest);
     }
 
@@ -195,7 +204,7 @@ class ResultServiceTest {
     void testListResultBySurveyIdAndAccountId() {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
-        given(resultRepository.findAllByAccountIdAndSurveyId(resultTest.getId(), resultTest.getId(), pageable)).willReturn(resultPage);
+        given(resultRepository.findListByAccountIdAndSurveyId(resultTest.getId(), resultTest.getId(), pageable)).willReturn(resultPage.getContent());
         given(resultMapper.resultToResultResponseDto(resultTest)).willReturn(resultResponseDtoTest);
 
         Page<ResultResponseDto> resultResponseDtoPage = resultService.listResultBySurveyIdAndAccountId(resultTest.getId(), resultTest.getId(), 0, 10);
@@ -212,7 +221,43 @@ class ResultServiceTest {
         });
 
         verify(paginationHelper).buildPageRequest(0, 10);
-        verify(resultRepository).findAllByAccountIdAndSurveyId(resultTest.getId(), resultTest.getId(), pageable);
+        verify(resultRepository).findListByAccountIdAndSurveyId(resultTest.getId(), resultTest.getId(), pageable);
         verify(resultMapper).resultToResultResponseDto(resultTest);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Export Results by Survey ID: Should write a CSV header and one line per streamed row")
+    void testExportResultsBySurveyId() throws Exception {
+        UUID surveyId = UUID.randomUUID();
+        var row = new ResultExportRowDto(UUID.randomUUID(), accountTest.getId(), "sky, \"the\" respondent", null, null, 1800, 10, 5, 0, null);
+        given(resultRepository.streamExportRowsBySurveyId(surveyId)).willReturn(Stream.of(row));
+
+        StringWriter writer = new StringWriter();
+        resultService.exportResultsBySurveyId(surveyId, writer);
+
+        String[] lines = writer.toString().split("\n");
+
+        assertAll(() -> {
+            assertEquals(2, lines.length);
+            assertEquals(String.join(",", ResultExportRowDto.HEADER), lines[0]);
+            assertEquals(row.id() + "," + accountTest.getId() + ",\"sky, \"\"the\"\" respondent\",,,1800,10,5,0,", lines[1]);
+        });
+
+        verify(resultMapper, never()).resultToResultResponseDto(any());
+    }
+
+    @Test
+    @DisplayName("Export Results by Survey ID: Should keep usernames that look like formulas from being evaluated")
+    void testExportResultsBySurveyIdEscapesFormulas() throws Exception {
+        UUID surveyId = UUID.randomUUID();
+        var row = new ResultExportRowDto(UUID.randomUUID(), accountTest.getId(), "=HYPERLINK(\"http://evil\")", null, null, 1800, 10, 5, 0, null);
+        given(resultRepository.streamExportRowsBySurveyId(surveyId)).willReturn(Stream.of(row));
+
+        StringWriter writer = new StringWriter();
+        resultService.exportResultsBySurveyId(surveyId, writer);
+
+        String[] lines = writer.toString().split("\n");
+
+        assertEquals(row.id() + "," + accountTest.getId() + ",\"'=HYPERLINK(\"\"http://evil\"\")\",,,1800,10,5,0,", lines[1]);
+    }
+}
@@ -0,0 +1,411 @@
+package org.skyline.mcq.application.usecases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.skyline.mcq.application.dtos.input.AnswersDto;
+import org.skyline.mcq.application.dtos.input.SurveyAnswersDto;
+import org.skyline.mcq.application.dtos.output.ResultResponseDto;
+import org.skyline.mcq.application.mappings.ResultMapper;
+import org.skyline.mcq.application.scoring.AnswerKeyCache;
+import org.skyline.mcq.application.scoring.PartialCreditScoringStrategy;
+import org.skyline.mcq.application.scoring.ScoringStrategy;
+import org.skyline.mcq.application.scoring.SurveyAnswerKey;
+import org.skyline.mcq.application.utils.PageCountCache;
+import org.skyline.mcq.application.utils.SurveyAttemptCounter;
+import org.skyline.mcq.application.utils.SurveyStatsRecorder;
+import org.skyline.mcq.domain.enums.SubmissionStatus;
+import org.skyline.mcq.domain.exceptions.ConflictException;
+import org.skyline.mcq.domain.exceptions.NotFoundException;
+import org.skyline.mcq.domain.models.Account;
+import org.skyline.mcq.domain.models.Question;
+import org.skyline.mcq.domain.models.Result;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.infrastructure.outputport.AccountRepository;
+import org.skyline.mcq.infrastructure.outputport.QuestionRepository;
+import org.skyline.mcq.infrastructure.outputport.ResultWriter;
+import org.skyline.mcq.infrastructure.outputport.SurveyRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionServiceTest {
+
+    @Mock
+    private SurveyRepository surveyRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private ResultWriter resultWriter;
+
+    @Mock
+    private ResultMapper resultMapper;
+
+    @Mock
+    private AnswerKeyCache answerKeyCache;
+
+    @Spy
+    private ScoringStrategy scoringStrategy = new PartialCreditScoringStrategy();
+
+    @Mock
+    private PageCountCache pageCountCache;
+
+    @Mock
+    private SurveyStatsRecorder surveyStatsRecorder;
+
+    @Mock
+    private SurveyAttemptCounter surveyAttemptCounter;
+
+    @InjectMocks
+    private SubmissionService submissionService;
+
+    private Survey surveyTest;
+    private Account accountTest;
+    private Question questionTest;
+    private AnswersDto goodAnswersTest;
+    private AnswersDto badAnswersTest;
+    private AnswersDto badValueTest;
+    private ResultResponseDto resultResponseDtoTest;
+    private ResultResponseDto resultResponseDtoTestB;
+
+    @BeforeEach
+    void setUp() {
+
+        surveyTest = Survey.builder()
+                .id(UUID.randomUUID())
+                .title("new title")
+                .description("new description")
+                .image("survey.png")
+                .maxPoints(10)
+                .questionCount(5)
+                .active(true)
+                .timeLimit(3600000)
+                .attempts(1)
+                .hasRestrictedAccess(true)
+                .build();
+
+        accountTest = Account.builder()
+                .id(UUID.randomUUID())
+                .firstName("Sky")
+                .lastName("Taylor")
+                .username("sky_responder")
+                .email("sky.taylor@example.com")
+                .password("SkyPassword123")
+                .profileImage("account1.jpg")
+                .description("New Sky responder")
+                .build();
+
+        questionTest = Question.builder()
+                .content("¿Qué bebidas contienen alcohol?")
+                .image("question1.png")
+                .points(2)
+                .allowedAnswers(1)
+                .options("{\"optionA\":\"Refresco\",\"optionB\":\"Agua\",\"optionC\":\"Cerveza\",\"optionD\":\"Jugo\"}")
+                .correctAnswers("{\"optionC\":\"Cerveza\"}")
+                .build();
+
+        goodAnswersTest = AnswersDto.builder()
+                .questionId(UUID.randomUUID())
+                .userAnswers("{\"optionC\":\"Cerveza\"}")
+                .build();
+
+        badAnswersTest = AnswersDto.builder()
+                .questionId(UUID.randomUUID())
+                .userAnswers("{\"optionD\":\"Jugo\"}")
+                .build();
+
+        badValueTest = AnswersDto.builder()
+                .questionId(UUID.randomUUID())
+                .userAnswers("{\"optionC\":\"Jugo\"}")
+                .build();
+
+        resultResponseDtoTest = ResultResponseDto.builder()
+                .correctAnswers(5)
+                .incorrectAnswers(0)
+                .totalPoints(10)
+                .build();
+
+        resultResponseDtoTestB = ResultResponseDto.builder()
+                .correctAnswers(2)
+                .incorrectAnswers(3)
+                .totalPoints(6)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Submit Survey: Should calculate full score when all answers are correct")
+    void testSubmitSurvey() {
+        given(surveyRepository.findWithQuestionsById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
+        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.of(accountTest));
+        given(answerKeyCache.get(surveyTest.getId())).willReturn(answerKeyFor(questionFor(goodAnswersTest)));
+        given(resultWriter.write(any())).willReturn(SubmissionStatus.PERSISTED);
+        given(resultMapper.resultToResultResponseDto(any())).willReturn(resultResponseDtoTest);
+
+        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
+                .surveyId(surveyTest.getId())
+                .startTime(LocalDateTime.now())
+                .answers(Arrays.asList(
+                        goodAnswersTest,
+                        goodAnswersTest,
+                        goodAnswersTest,
+                        goodAnswersTest,
+                        goodAnswersTest
+                ))
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .build();
+
+        var result = submissionService.submitSurvey(surveyAnswersDto, accountTest.getId());
+
+        assertAll("Full Score Validation",
+                () -> assertNotNull(result, "The result should not be null"),
+                () -> assertEquals(10, result.getTotalPoints(), "Total points should be maximum (10 points)"),
+                () -> assertEquals(5, result.getCorrectAnswers(), "All questions should be answered correctly"),
+                () -> assertEquals(0, result.getIncorrectAnswers(), "There should be no incorrect answers")
+        );
+
+        verify(surveyRepository).findWithQuestionsById(surveyTest.getId());
+        verify(surveyRepository, never()).findById(any());
+        verify(accountRepository).findById(accountTest.getId());
+        verify(surveyAttemptCounter).reserve(accountTest.getId(), surveyTest);
+        verify(answerKeyCache).get(surveyTest.getId());
+        verify(questionRepository, never()).findById(any());
+        verify(resultWriter).write(any());
+        verify(pageCountCache).invalidate(Result.class);
+        verify(surveyStatsRecorder).record(eq(surveyTest.getId()), argThat(submissions -> submissions.size() == 1 && submissions.getFirst().totalPoints() == 10));
+        verify(resultMapper).resultToResultResponseDto(any());
+    }
+
+    @Test
+    @DisplayName("Submit Survey: Should throw not found when survey does not exist")
+    void testSubmitSurveySurveyNotFound() {
+        given(surveyRepository.findWithQuestionsById(surveyTest.getId())).willReturn(Optional.empty());
+
+        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
+                .surveyId(surveyTest.getId())
+                .startTime(LocalDateTime.now())
+                .answers(List.of())
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .build();
+
+        assertThrows(NotFoundException.class, () -> submissionService.submitSurvey(surveyAnswersDto, accountTest.getId()),
+                "The submission should fail because the survey was not found");
+
+        verify(surveyRepository).findWithQuestionsById(surveyTest.getId());
+        verify(accountRepository, never()).findById(any());
+        verify(resultWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("Submit Survey: Should throw conflict when the time limit is exceeded")
+    void testSubmitSurveyTimeLimitExceeded() {
+        given(surveyRepository.findWithQuestionsById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
+
+        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
+                .surveyId(surveyTest.getId())
+                .startTime(LocalDateTime.now())
+                .answers(List.of(goodAnswersTest))
+                .endTime(LocalDateTime.now().plusHours(2))
+                .build();
+
+        assertThrows(ConflictException.class, () -> submissionService.submitSurvey(surveyAnswersDto, accountTest.getId()),
+                "The submission should fail because it took longer than the time limit");
+
+        verify(accountRepository, never()).findById(any());
+        verify(answerKeyCache, never()).get(any());
+        verify(resultWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("Submit Survey: Should throw conflict when account does not exist")
+    void testSubmitSurveyAccountNotFound() {
+        given(surveyRepository.findWithQuestionsById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
+        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.empty());
+
+        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
+                .surveyId(surveyTest.getId())
+                .startTime(LocalDateTime.now())
+                .answers(List.of())
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .build();
+
+        assertThrows(ConflictException.class, () -> submissionService.submitSurvey(surveyAnswersDto, accountTest.getId()),
+                "The submission should fail because the account was not found");
+
+        verify(surveyRepository).findWithQuestionsById(surveyTest.getId());
+        verify(accountRepository).findById(accountTest.getId());
+        verify(resultWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("Submit Survey: Should throw conflict before scoring when no attempts are left")
+    void testSubmitSurveyAttemptsExhausted() {
+        given(surveyRepository.findWithQuestionsById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
+        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.of(accountTest));
+        willThrow(new ConflictException("Survey", surveyTest.getId().toString(), "No attempts left"))
+                .given(surveyAttemptCounter).reserve(accountTest.getId(), surveyTest);
+
+        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
+                .surveyId(surveyTest.getId())
+                .startTime(LocalDateTime.now())
+                .answers(List.of(goodAnswersTest))
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .build();
+
+        assertThrows(ConflictException.class, () -> submissionService.submitSurvey(surveyAnswersDto, accountTest.getId()),
+                "The submission should fail because every attempt has been used");
+
+        verify(answerKeyCache, never()).get(any());
+        verify(resultWriter, never()).write(any());
+        verify(surveyStatsRecorder, never()).record(any(), any());
+    }
+
+    @Test
+    @DisplayName("Submit Survey: Should calculate partial score when some answers are incorrect")
+    void testSubmitSurveySomeBadAnswers() {
+        given(surveyRepository.findWithQuestionsById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
+        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.of(accountTest));
+        given(answerKeyCache.get(surveyTest.getId())).willReturn(answerKeyFor(
+                questionFor(goodAnswersTest),
+                questionFor(badAnswersTest),
+                questionFor(badValueTest)
+        ));
+        given(resultWriter.write(any())).willReturn(SubmissionStatus.PERSISTED);
+        given(resultMapper.resultToResultResponseDto(any())).willReturn(resultResponseDtoTestB);
+
+        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
+                .surveyId(surveyTest.getId())
+                .startTime(LocalDateTime.now())
+                .answers(Arrays.asList(
+                        goodAnswersTest,
+                        goodAnswersTest,
+                        badAnswersTest,
+                        badAnswersTest,
+                        badValueTest
+                ))
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .build();
+
+        var result = submissionService.submitSurvey(surveyAnswersDto, accountTest.getId());
+
+        assertAll("Partial Score Validation",
+                () -> assertNotNull(result, "The result should not be null"),
+                () -> assertEquals(6, result.getTotalPoints(), "Total points should reflect only correct answers (6 points)"),
+                () -> assertEquals(2, result.getCorrectAnswers(), "Only 2 questions should be correct"),
+                () -> assertEquals(3, result.getIncorrectAnswers(), "There should be 3 incorrect answers")
+        );
+
+        verify(surveyRepository).findWithQuestionsById(surveyTest.getId());
+        verify(surveyRepository, never()).findById(any());
+        verify(accountRepository).findById(accountTest.getId());
+        verify(answerKeyCache).get(surveyTest.getId());
+        verify(questionRepository, never()).findById(any());
+        verify(resultWriter).write(any());
+        verify(resultMapper).resultToResultResponseDto(any());
+    }
+
+    @Test
+    @DisplayName("Submit Survey: Should reject answers for questions that belong to another survey")
+    void testSubmitSurveyForeignQuestion() {
+        given(surveyRepository.findWithQuestionsById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
+        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.of(accountTest));
+        given(answerKeyCache.get(surveyTest.getId())).willReturn(answerKeyFor(questionFor(badAnswersTest)));
+
+        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
+                .surveyId(surveyTest.getId())
+                .startTime(LocalDateTime.now())
+                .answers(Arrays.asList(goodAnswersTest, badAnswersTest))
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .build();
+
+        ConflictException exception = assertThrows(ConflictException.class, () -> submissionService.submitSurvey(surveyAnswersDto, accountTest.getId()));
+
+        assertTrue(exception.getMessage().contains(goodAnswersTest.getQuestionId().toString()), "The foreign question ID should be named");
+        verify(resultWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("Submit Survey: Should report a pending status when the result is written behind")
+    void testSubmitSurveyWriteBehind() {
+        given(surveyRepository.findWithQuestionsById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
+        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.of(accountTest));
+        given(answerKeyCache.get(surveyTest.getId())).willReturn(answerKeyFor(questionFor(goodAnswersTest)));
+        given(resultWriter.write(any())).willReturn(SubmissionStatus.PENDING);
+        given(resultMapper.resultToResultResponseDto(any())).willReturn(resultResponseDtoTest);
+
+        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
+                .surveyId(surveyTest.getId())
+                .startTime(LocalDateTime.now())
+                .answers(List.of(goodAnswersTest))
+                .endTime(LocalDateTime.now().plusMinutes(30))
+                .build();
+
+        var result = submissionService.submitSurvey(surveyAnswersDto, accountTest.getId());
+
+        assertEquals(SubmissionStatus.PENDING, result.getStatus(), "The result should be pending until it is written");
+
+        verify(resultWriter).write(argThat(written -> written.getAccount() == accountTest && written.getSurvey() == surveyTest
+                && written.getAnswers().stream().allMatch(answer -> answer.getResult() == written)));
+        verify(surveyStatsRecorder, never()).record(any(), any());
+    }
+
+    @Test
+    @DisplayName("Find Submission Status: Should return the status reported by the result writer")
+    void testFindSubmissionStatus() {
+        UUID resultId = UUID.randomUUID();
+        given(resultWriter.findStatus(resultId, accountTest.getId())).willReturn(Optional.of(SubmissionStatus.PERSISTED));
+
+        var status = submissionService.findSubmissionStatus(resultId, accountTest.getId()).orElseThrow();
+
+        assertAll("Submission Status Validation",
+                () -> assertEquals(resultId, status.getResultId(), "The result ID should match"),
+                () -> assertEquals(SubmissionStatus.PERSISTED, status.getStatus(), "The status should match the writer")
+        );
+
+        verify(resultWriter).findStatus(resultId, accountTest.getId());
+    }
+
+    @Test
+    @DisplayName("Find Submission Status: Should return empty when the submission is unknown")
+    void testFindSubmissionStatusNotFound() {
+        UUID resultId = UUID.randomUUID();
+        given(resultWriter.findStatus(resultId, accountTest.getId())).willReturn(Optional.empty());
+
+        assertTrue(submissionService.findSubmissionStatus(resultId, accountTest.getId()).isEmpty(), "The status should be empty");
+
+        verify(resultWriter).findStatus(resultId, accountTest.getId());
+    }
+
+    private SurveyAnswerKey answerKeyFor(Question... questions) {
+        return SurveyAnswerKey.of(surveyTest.getId(), List.of(questions), new ObjectMapper());
+    }
+
+    private Question questionFor(AnswersDto answer) {
+        return Question.builder()
+                .id(answer.getQuestionId())
+                .content(questionTest.getContent())
+                .image(questionTest.getImage())
+                .points(questionTest.getPoints())
+                .allowedAnswers(questionTest.getAllowedAnswers())
+                .options(questionTest.getOptions())
+                .correctAnswers(questionTest.getCorrectAnswers())
+                .survey(surveyTest)
+                .build();
+    }
+}
@@ -1,32 +1,33 @@
 package org.skyline.mcq.application.usecases;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.skyline.mcq.application.dtos.input.AnswersDto;
-import org.skyline.mcq.application.dtos.input.SurveyAnswersDto;
 import org.skyline.mcq.application.dtos.input.SurveyRequestDto;
 import org.skyline.mcq.application.dtos.input.SurveyUpdateRequestDto;
 import org.skyline.mcq.application.dtos.output.AccountSummaryDto;
-import org.skyline.mcq.application.dtos.output.ResultResponseDto;
+import org.skyline.mcq.application.dtos.output.SurveyListItemDto;
 import org.skyline.mcq.application.dtos.output.SurveyResponseDto;
 import org.skyline.mcq.application.mappings.AccountMapper;
-import org.skyline.mcq.application.mappings.ResultMapper;
 import org.skyline.mcq.application.mappings.SurveyMapper;
+import org.skyline.mcq.application.utils.PageCountCache;
 import org.skyline.mcq.application.utils.PaginationHelper;
+import org.skyline.mcq.application.utils.SurveySnapshotCache;
 import org.skyline.mcq.domain.models.*;
+import org.skyline.mcq.domain.specification.SurveyFilter;
 import org.skyline.mcq.infrastructure.outputport.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
-import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,12 +46,6 @@ class SurveyServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
-    @Mock
-    private QuestionRepository questionRepository;
-
-    @Mock
-    private ResultRepository resultRepository;
-
     @Mock
     private PaginationHelper paginationHelper;
 
@@ -61,10 +56,10 @@ class SurveyServiceTest {
     private AccountMapper accountMapper;
 
     @Mock
-    private ResultMapper resultMapper;
+    private SurveySnapshotCache surveySnapshotCache;
 
-    @Mock
-    private ObjectMapper objectMapper;
+    @Spy
+    private PageCountCache pageCountCache = new PageCountCache(100, 5000);
 
     @InjectMocks
     private SurveyService surveyService;
@@ -79,16 +74,6 @@ class SurveyServiceTest {
     private List<AccountSummaryDto> accounts;
     private Page<Account> accountPage;
     private Page<Survey> surveyPage;
-    private Question questionTest;
-    private AnswersDto goodAnswersTest;
-    private AnswersDto badAnswersTest;
-    private AnswersDto badValueTest;
-    private final Map<String, Object> goodAnswerUserMap = new HashMap<>();
-    private final Map<String, Object> badAnswerUserMap = new HashMap<>();
-    private final Map<String, Object> badValueUserMap = new HashMap<>();
-    private Result resultTest;
-    private ResultResponseDto resultResponseDtoTest;
-    private ResultResponseDto resultResponseDtoTestB;
 
     @BeforeEach
     void setUp() {
@@ -161,15 +146,6 @@ class SurveyServiceTest {
                 .hasRestrictedAccess(true)
                 .build();
 
-        questionTest = Question.builder()
-                .content("¿Qué bebidas contienen alcohol?")
-                .image("question1.png")
-                .points(2)
-                .allowedAnswers(1)
-                .options("{\"optionA\":\"Refresco\",\"optionB\":\"Agua\",\"optionC\":\"Cerveza\",\"optionD\":\"Jugo\"}")
-                .correctAnswers("{\"optionC\":\"Cerveza\"}")
-                .build();
-
         AccountSummaryDto accountSummaryDtoTest = AccountSummaryDto.builder()
                 .id(UUID.randomUUID())
                 .firstName("Sky")
@@ -178,46 +154,6 @@ class SurveyServiceTest {
                 .email("sky@gmail.com")
                 .build();
 
-        goodAnswersTest = AnswersDto.builder()
-                .questionId(UUID.randomUUID())
-                .userAnswers("{\"optionC\":\"Cerveza\"}")
-                .build();
-
-        badAnswersTest = AnswersDto.builder()
-                .questionId(UUID.randomUUID())
-                .userAnswers("{\"optionD\":\"Jugo\"}")
-                .build();
-
-        badValueTest = AnswersDto.builder()
-                .questionId(UUID.randomUUID())
-                .userAnswers("{\"optionC\":\"Jugo\"}")
-                .build();
-
-        resultTest = Result.builder()
-                .id(surveyTest.getId())
-                .account(accountTest)
-                .survey(surveyTest)
-                .totalPoints(10)
-                .correctAnswers(5)
-                .incorrectAnswers(0)
-                .build();
-
-        resultResponseDtoTest = ResultResponseDto.builder()
-                .correctAnswers(5)
-                .incorrectAnswers(0)
-                .totalPoints(10)
-                .build();
-
-        resultResponseDtoTestB = ResultResponseDto.builder()
-                .correctAnswers(2)
-                .incorrectAnswers(3)
-                .totalPoints(6)
-                .build();
-
-        goodAnswerUserMap.put("optionC", "Cerveza");
-        badAnswerUserMap.put("optionD", "Jugo");
-        badValueUserMap.put("optionC", "Jugo");
-
         accounts = Collections.singletonList(accountSummaryDtoTest);
         accountPage = new PageImpl<>(Collections.singletonList(accountTest), pageable, 1);
         surveyPage = new PageImpl<>(Collections.singletonList(surveyTest), pageable, 1);
@@ -373,7 +309,7 @@ class SurveyServiceTest {
 
         given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
         given(surveyMapper.surveyToSurveyResponseDto(any(Survey.class))).willReturn(surveyResponseDtoTest);
-        given(surveyRepository.findAll(any(Specification.class), eq(pageable))).willReturn(surveyPage);
+        given(surveyRepository.findBy(any(Specification.class), any())).willReturn(Window.from(surveyPage.getContent(), ScrollPosition::offset));
 
         var result = surveyService.listSurveys(UUID.randomUUID(), true, false, UUID.randomUUID(), true, 0, 10);
 
@@ -383,10 +319,31 @@ class SurveyServiceTest {
                 () -> assertEquals(1, result.getContent().size(), "The result should contain exactly one survey")
         );
 
-        verify(surveyRepository).findAll(any(Specification.class), eq(pageable));
+        verify(surveyRepository).findBy(any(Specification.class), any());
         verify(surveyMapper).surveyToSurveyResponseDto(any(Survey.class));
     }
 
+    @Test
+    @DisplayName("List Survey Summaries: Should return the projected rows of the filtered surveys")
+    void testListSurveySummaries() {
+        SurveyListItemDto surveyListItemDto = new SurveyListItemDto(surveyTest.getId(), surveyTest.getTitle(), null, null, 10, 3600, 1,
+                false, true, true, categoryTest.getId(), categoryTest.getTitle(), accountTest.getId(), accountTest.getUsername(), 3L, null);
+
+        given(paginationHelper.buildPageRequest(0, 10)).willReturn(pageable);
+        given(surveyRepository.findSurveyListItems(any(SurveyFilter.class), eq(pageable))).willReturn(List.of(surveyListItemDto));
+
+        var result = surveyService.listSurveySummaries(categoryTest.getId(), true, false, null, true, 0, 10);
+
+        assertAll("List Survey Summaries",
+                () -> assertEquals(1, result.getTotalElements()),
+                () -> assertSame(surveyListItemDto, result.getContent().getFirst())
+        );
+
+        verify(surveyRepository).findSurveyListItems(argThat(filter -> categoryTest.getId().equals(filter.categoryId()) && filter.accountId() == null), eq(pageable));
+        verify(surveyRepository, never()).count(any(Specification.class));
+        verifyNoInteractions(surveyMapper);
+    }
+
     @Test
     @DisplayName("List Accounts by Survey ID: Should return active accounts when both survey and account are active")
     void testListAccountsBySurveyIdSurveyActiveAndAccountActive() {
@@ -465,6 +422,8 @@ class SurveyServiceTest {
         verify(surveyRepository).findByIdAndAccountId(surveyTest.getId(), accountTest.getId());
         verify(surveyRepository).save(surveyTest);
         verify(surveyMapper).surveyToSurveyResponseDto(surveyTest);
+        verify(surveySnapshotCache).invalidate(surveyTest.getId());
+        verify(pageCountCache).invalidate(Survey.class);
     }
 
     @Test
@@ -508,6 +467,7 @@ class SurveyServiceTest {
 
         verify(surveyRepository).findByIdAndAccountId(surveyTest.getId(), accountTest.getId());
         verify(surveyRepository).save(surveyTest);
+        verify(surveySnapshotCache).invalidate(surveyTest.getId());
     }
 
     @Test
@@ -536,137 +496,4 @@ class SurveyServiceTest {
         verify(surveyRepository).findByIdAndAccountId(surveyTest.getId(), accountTest.getId());
         verify(surveyRepository, never()).save(any());
     }
-    @Test
-    @DisplayName("Submit Survey: Should calculate full score when all answers are correct")
-    void testSubmitSurvey() {
-        given(surveyRepository.findById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
-        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.of(accountTest));
-        given(questionRepository.findById(any())).willReturn(Optional.of(questionTest));
-        given(objectMapper.convertValue(goodAnswersTest.getUserAnswers(), Map.class)).willReturn(goodAnswerUserMap);
-        given(resultRepository.save(any())).willReturn(resultTest);
-        given(resultMapper.resultToResultResponseDto(any())).willReturn(resultResponseDtoTest);
-
-        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
-                .surveyId(surveyTest.getId())
-                .startTime(LocalDateTime.now())
-                .answers(Arrays.asList(
-                        goodAnswersTest,
-                        goodAnswersTest,
-                        goodAnswersTest,
-                        goodAnswersTest,
-                        goodAnswersTest
-                ))
-                .endTime(LocalDateTime.now().plusMinutes(30))
-                .build();
-
-        var result = surveyService.submitSurvey(surveyAnswersDto, accountTest.getId()).orElseThrow();
-
-        assertAll("Full Score Validation",
-                () -> assertNotNull(result, "The result should not be null"),
-                () -> assertEquals(10, result.getTotalPoints(), "Total points should be maximum (10 points)"),
-                () -> assertEquals(5, result.getCorrectAnswers(), "All questions should be answered correctly"),
-                () -> assertEquals(0, result.getIncorrectAnswers(), "There should be no incorrect answers")
-        );
-
-        verify(surveyRepository).findById(surveyTest.getId());
-        verify(accountRepository).findById(accountTest.getId());
-        verify(questionRepository, times(5)).findById(any());
-        verify(objectMapper, times(10)).convertValue(goodAnswersTest.getUserAnswers(), Map.class);
-        verify(resultRepository).save(any());
-        verify(resultMapper).resultToResultResponseDto(any());
-    }
-
-    @Test
-    @DisplayName("Submit Survey: Should return empty result when survey does not exist")
-    void testSubmitSurveySurveyNotFound() {
-        given(surveyRepository.findById(surveyTest.getId())).willReturn(Optional.empty());
-        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.of(accountTest));
-
-        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
-                .surveyId(surveyTest.getId())
-                .answers(List.of())
-                .build();
-
-        var result = surveyService.submitSurvey(surveyAnswersDto, accountTest.getId());
-
-        assertAll("Survey Not Found Validation",
-                () -> assertTrue(result.isEmpty(), "The result should be empty because the survey was not found")
-        );
-
-        verify(surveyRepository).findById(surveyTest.getId());
-        verify(accountRepository).findById(accountTest.getId());
-    }
-
-    @Test
-    @DisplayName("Submit Survey: Should return empty result when account does not exist")
-    void testSubmitSurveyAccountNotFound() {
-        given(surveyRepository.findById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
-        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.empty());
-
-        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
-                .surveyId(surveyTest.getId())
-                .answers(List.of())
-                .build();
-
-        var result = surveyService.submitSurvey(surveyAnswersDto, accountTest.getId());
-
-        assertAll("Account Not Found Validation",
-                () -> assertTrue(result.isEmpty(), "The result should be empty because the account was not found")
-        );
-
-        verify(surveyRepository).findById(surveyTest.getId());
-        verify(accountRepository).findById(accountTest.getId());
-    }
-
-    @Test
-    @DisplayName("Submit Survey: Should calculate partial score when some answers are incorrect")
-    void testSubmitSurveySomeBadAnswers() {
-        var notFoundAnswers = AnswersDto.builder()
-                .questionId(UUID.randomUUID())
-                .userAnswers("{\"optionC\":\"Jugo\"}")
-                .build();
-
-        given(surveyRepository.findById(surveyTest.getId())).willReturn(Optional.of(surveyTest));
-        given(accountRepository.findById(accountTest.getId())).willReturn(Optional.of(accountTest));
-        given(questionRepository.findById(any())).willReturn(Optional.of(questionTest));
-        given(questionRepository.findById(notFoundAnswers.getQuestionId())).willReturn(Optional.empty());
-        given(objectMapper.convertValue(goodAnswersTest.getUserAnswers(), Map.class)).willReturn(goodAnswerUserMap);
-        given(objectMapper.convertValue(badAnswersTest.getUserAnswers(), Map.class)).willReturn(badAnswerUserMap);
-        given(objectMapper.convertValue(badValueTest.getUserAnswers(), Map.class)).willReturn(badValueUserMap);
-        given(resultRepository.save(any())).willReturn(resultTest);
-        given(resultMapper.resultToResultResponseDto(any())).willReturn(resultResponseDtoTestB);
-
-        SurveyAnswersDto surveyAnswersDto = SurveyAnswersDto.builder()
-                .surveyId(surveyTest.getId())
-                .startTime(LocalDateTime.now())
-                .answers(Arrays.asList(
-                        goodAnswersTest,
-                        goodAnswersTest,
-                        badAnswersTest,
-                        badAnswersTest,
-                        badValueTest,
-                        notFoundAnswers
-                ))
-                .endTime(LocalDateTime.now().plusMinutes(30))
-                .build();
-
-        var result = surveyService.submitSurvey(surveyAnswersDto, accountTest.getId()).orElseThrow();
-
-        assertAll("Partial Score Validation",
-                () -> assertNotNull(result, "The result should not be null"),
-                () -> assertEquals(6, result.getTotalPoints(), "Total points should reflect only correct answers (6 points)"),
-                () -> assertEquals(2, result.getCorrectAnswers(), "Only 2 questions should be correct"),
-                () -> assertEquals(3, result.getIncorrectAnswers(), "There should be 3 incorrect answers")
-        );
-
-        verify(surveyRepository).findById(surveyTest.getId());
-        verify(accountRepository).findById(accountTest.getId());
-        verify(questionRepository, times(6)).findById(any());
-        verify(questionRepository).findById(notFoundAnswers.getQuestionId());
-        verify(objectMapper, times(7)).convertValue(goodAnswersTest.getUserAnswers(), Map.class);
-        verify(objectMapper, times(2)).convertValue(badAnswersTest.getUserAnswers(), Map.class);
-        verify(objectMapper, times(2)).convertValue(badValueTest.getUserAnswers(), Map.class);
-        verify(resultRepository).save(any());
-        verify(resultMapper).resultToResultResponseDto(any());
-    }
-}
\ No newline at end of file
+}
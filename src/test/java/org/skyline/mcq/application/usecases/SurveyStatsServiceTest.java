@@ -0,0 +1,130 @@
+package org.skyline.mcq.application.usecases;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.skyline.mcq.application.utils.SurveyStatsRecorder;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.domain.models.SurveyStats;
+import org.skyline.mcq.infrastructure.outputport.SurveyRepository;
+import org.skyline.mcq.infrastructure.outputport.SurveyStatsRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyStatsServiceTest {
+
+    @Mock
+    private SurveyStatsRepository surveyStatsRepository;
+
+    @Mock
+    private SurveyRepository surveyRepository;
+
+    @Mock
+    private SurveyStatsRecorder surveyStatsRecorder;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SurveyStatsService surveyStatsService;
+
+    private Survey surveyTest;
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountId = UUID.randomUUID();
+        surveyTest = Survey.builder()
+                .id(UUID.randomUUID())
+                .title("new title")
+                .maxPoints(10)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Find Survey Stats: Should derive means from the stored aggregate")
+    void testFindSurveyStats() {
+        SurveyStats stats = SurveyStats.builder()
+                .surveyId(surveyTest.getId())
+                .attemptCount(4L)
+                .scoreSum(30L)
+                .minScore(5)
+                .maxScore(10)
+                .durationSum(2000L)
+                .histogram(List.of(0L, 0L, 0L, 0L, 0L, 1L, 0L, 2L, 0L, 1L))
+                .build();
+
+        given(surveyRepository.findByIdAndAccountId(surveyTest.getId(), accountId)).willReturn(Optional.of(surveyTest));
+        given(surveyStatsRepository.findById(surveyTest.getId())).willReturn(Optional.of(stats));
+
+        var result = surveyStatsService.findSurveyStats(surveyTest.getId(), accountId).orElseThrow();
+
+        assertAll(() -> {
+            assertEquals(4L, result.getAttemptCount());
+            assertEquals(7.5, result.getMeanScore());
+            assertEquals(5, result.getMinScore());
+            assertEquals(10, result.getMaxScore());
+            assertEquals(500.0, result.getMeanDuration());
+            assertEquals(stats.getHistogram(), result.getHistogram());
+        });
+    }
+
+    @Test
+    @DisplayName("Find Survey Stats: Should report an empty aggregate for a survey without submissions")
+    void testFindSurveyStatsWithoutSubmissions() {
+        given(surveyRepository.findByIdAndAccountId(surveyTest.getId(), accountId)).willReturn(Optional.of(surveyTest));
+        given(surveyStatsRepository.findById(surveyTest.getId())).willReturn(Optional.empty());
+
+        var result = surveyStatsService.findSurveyStats(surveyTest.getId(), accountId).orElseThrow();
+
+        assertAll(() -> {
+            assertEquals(0L, result.getAttemptCount());
+            assertNull(result.getMeanScore());
+            assertEquals(SurveyStats.HISTOGRAM_BUCKETS, result.getHistogram().size());
+        });
+    }
+
+    @Test
+    @DisplayName("Find Survey Stats: Should return empty when the survey belongs to another account")
+    void testFindSurveyStatsNotOwned() {
+        given(surveyRepository.findByIdAndAccountId(surveyTest.getId(), accountId)).willReturn(Optional.empty());
+
+        assertTrue(surveyStatsService.findSurveyStats(surveyTest.getId(), accountId).isEmpty());
+
+        verify(surveyStatsRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Rebuild Survey Stats: Should return empty when the survey does not exist")
+    void testRebuildSurveyStatsNotFound() {
+        given(surveyRepository.existsById(surveyTest.getId())).willReturn(false);
+
+        assertTrue(surveyStatsService.rebuildSurveyStats(surveyTest.getId()).isEmpty());
+
+        verify(surveyStatsRecorder, never()).rebuild(any());
+    }
+
+    @Test
+    @DisplayName("Rebuild All Survey Stats: Should rebuild every survey in its own transaction")
+    void testRebuildAllSurveyStats() {
+        given(surveyRepository.findAllIds()).willReturn(List.of(surveyTest.getId(), UUID.randomUUID()));
+
+        assertEquals(2, surveyStatsService.rebuildAllSurveyStats());
+
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+    }
+}
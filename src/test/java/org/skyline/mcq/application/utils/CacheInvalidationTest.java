@@ -0,0 +1,42 @@
+package org.skyline.mcq.application.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheInvalidationTest {
+
+    private final AtomicInteger evictions = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Invalidation: Should evict once when no transaction is active")
+    void testWithoutTransaction() {
+        CacheInvalidation.evictNowAndAfterCompletion(evictions::incrementAndGet);
+
+        assertEquals(1, evictions.get());
+    }
+
+    @Test
+    @DisplayName("Invalidation: Should evict again once the transaction completes")
+    void testAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        CacheInvalidation.evictNowAndAfterCompletion(evictions::incrementAndGet);
+        assertEquals(1, evictions.get());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(2, evictions.get());
+    }
+}
@@ -0,0 +1,70 @@
+package org.skyline.mcq.application.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.domain.models.Category;
+import org.skyline.mcq.domain.models.Result;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCountCacheTest {
+
+    private PageCountCache pageCountCache;
+    private AtomicInteger counts;
+    private LongSupplier counter;
+
+    @BeforeEach
+    void setUp() {
+        pageCountCache = new PageCountCache(100, 60000);
+        counts = new AtomicInteger();
+        counter = () -> {
+            counts.incrementAndGet();
+            return 42L;
+        };
+    }
+
+    @Test
+    @DisplayName("Page: Should run the count query once per filter and serve the total from the cache afterwards")
+    void testPageCachesTotal() {
+        var first = pageCountCache.page(List.of("a", "b"), PageRequest.of(0, 2), Result.class, "account", counter, "account-1");
+        var second = pageCountCache.page(List.of("c", "d"), PageRequest.of(1, 2), Result.class, "account", counter, "account-1");
+        var otherFilter = pageCountCache.page(List.of("e", "f"), PageRequest.of(0, 2), Result.class, "account", counter, "account-2");
+
+        assertAll(
+                () -> assertEquals(42, first.getTotalElements()),
+                () -> assertEquals(42, second.getTotalElements()),
+                () -> assertEquals(42, otherFilter.getTotalElements()),
+                () -> assertEquals(2, counts.get())
+        );
+    }
+
+    @Test
+    @DisplayName("Page: Should skip the count query when the first page is not full")
+    void testPageSkipsCountOnPartialPage() {
+        var page = pageCountCache.page(List.of("a"), PageRequest.of(0, 10), Result.class, "account", counter, "account-1");
+
+        assertAll(
+                () -> assertEquals(1, page.getTotalElements()),
+                () -> assertEquals(0, counts.get())
+        );
+    }
+
+    @Test
+    @DisplayName("Invalidate: Should only evict the totals of the written entity")
+    void testInvalidate() {
+        pageCountCache.count(Result.class, "account", counter, "account-1");
+        pageCountCache.count(Category.class, "active", counter, true);
+
+        pageCountCache.invalidate(Result.class);
+        pageCountCache.count(Result.class, "account", counter, "account-1");
+        pageCountCache.count(Category.class, "active", counter, true);
+
+        assertEquals(3, counts.get());
+    }
+}
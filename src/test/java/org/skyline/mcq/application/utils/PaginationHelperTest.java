@@ -0,0 +1,64 @@
+package org.skyline.mcq.application.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.domain.exceptions.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginationHelperTest {
+
+    private final PaginationHelper paginationHelper = new PaginationHelper();
+
+    @Test
+    @DisplayName("Build Slice: Should encode the last row as a cursor that decodes back to the same keyset position")
+    void testBuildSliceCursorRoundTrip() {
+        UUID id = UUID.randomUUID();
+        Timestamp createdAt = Timestamp.from(Instant.parse("2025-01-15T10:15:30.123456Z"));
+        Window<String> window = Window.from(List.of("first", "second"),
+                index -> ScrollPosition.forward(Map.of("createdAt", createdAt, "id", id)), true);
+
+        var slice = paginationHelper.buildSlice(window, 2, Function.identity());
+        var position = (KeysetScrollPosition) paginationHelper.buildScrollPosition(slice.getNextCursor());
+
+        assertAll(
+                () -> assertEquals(List.of("first", "second"), slice.getContent()),
+                () -> assertTrue(slice.hasNext()),
+                () -> assertEquals(createdAt, position.getKeys().get("createdAt")),
+                () -> assertEquals(id, position.getKeys().get("id"))
+        );
+    }
+
+    @Test
+    @DisplayName("Build Slice: Should not return a cursor on the last slice")
+    void testBuildSliceLastSlice() {
+        Window<String> window = Window.from(List.of("last"), index -> ScrollPosition.keyset(), false);
+
+        var slice = paginationHelper.buildSlice(window, 2, Function.identity());
+
+        assertAll(
+                () -> assertFalse(slice.hasNext()),
+                () -> assertNull(slice.getNextCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("Build Scroll Position: Should start from the beginning for an empty cursor and reject malformed ones")
+    void testBuildScrollPosition() {
+        assertAll(
+                () -> assertTrue(paginationHelper.buildScrollPosition("").isInitial()),
+                () -> assertThrows(InvalidCursorException.class, () -> paginationHelper.buildScrollPosition("not-a-cursor")),
+                () -> assertThrows(InvalidCursorException.class, () -> paginationHelper.buildScrollPosition("%%%"))
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package org.skyline.mcq.application.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.domain.exceptions.ConflictException;
+import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.domain.models.SurveyAttemptId;
+import org.skyline.mcq.infrastructure.outputport.SurveyAttemptRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(SurveyAttemptCounter.class)
+class SurveyAttemptCounterTest {
+
+    static UUID accountId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    static UUID surveyId = UUID.fromString("44444444-4444-4444-4444-444444444444");
+    static UUID limitedSurveyId = UUID.fromString("88888888-8888-8888-8888-888888888888");
+
+    @Autowired
+    SurveyAttemptCounter surveyAttemptCounter;
+
+    @Autowired
+    SurveyAttemptRepository surveyAttemptRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    Survey survey;
+
+    @BeforeEach
+    void setUp() {
+        survey = Survey.builder().id(surveyId).attempts(2).build();
+    }
+
+    @Test
+    @DisplayName("Attempt Counter: Should create the counter on the first attempt and increment it afterwards")
+    void testReserveIncrements() {
+        surveyAttemptCounter.reserve(accountId, survey);
+        surveyAttemptCounter.reserve(accountId, survey);
+
+        assertEquals(2, surveyAttemptRepository.findAttemptCountById(new SurveyAttemptId(accountId, surveyId)));
+    }
+
+    @Test
+    @DisplayName("Attempt Counter: Should reject an attempt beyond the survey limit without counting it")
+    void testReserveOverLimit() {
+        survey.setId(limitedSurveyId);
+        surveyAttemptCounter.reserve(accountId, survey);
+        surveyAttemptCounter.reserve(accountId, survey);
+
+        assertThrows(ConflictException.class, () -> surveyAttemptCounter.reserve(accountId, survey));
+        assertEquals(2, surveyAttemptRepository.findAttemptCountById(new SurveyAttemptId(accountId, limitedSurveyId)));
+    }
+
+    @Test
+    @DisplayName("Attempt Counter: Should not count attempts on surveys without a limit")
+    void testReserveUnlimited() {
+        survey.setAttempts(0);
+
+        surveyAttemptCounter.reserve(accountId, survey);
+
+        assertTrue(surveyAttemptRepository.findById(new SurveyAttemptId(accountId, surveyId)).isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Attempt Counter: Should let only one of two concurrent transactions take the last attempt")
+    void testReserveConcurrentLastAttempt() throws Exception {
+        UUID racingAccountId = UUID.randomUUID();
+        Survey racingSurvey = Survey.builder().id(UUID.randomUUID()).attempts(2).build();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> surveyAttemptCounter.reserve(racingAccountId, racingSurvey));
+
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Callable<Boolean> submit = () -> {
+            barrier.await(5, TimeUnit.SECONDS);
+            try {
+                transactionTemplate.executeWithoutResult(status -> surveyAttemptCounter.reserve(racingAccountId, racingSurvey));
+                return true;
+            } catch (ConflictException e) {
+                return false;
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Boolean>> outcomes = executor.invokeAll(List.of(submit, submit), 10, TimeUnit.SECONDS);
+            long succeeded = 0;
+            for (Future<Boolean> outcome : outcomes) if (outcome.get()) succeeded++;
+
+            assertEquals(1, succeeded, "Exactly one submission should get the last attempt");
+            assertEquals(2, surveyAttemptRepository.findAttemptCountById(new SurveyAttemptId(racingAccountId, racingSurvey.getId())));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
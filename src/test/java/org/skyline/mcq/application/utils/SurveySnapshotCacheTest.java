@@ -0,0 +1,96 @@
+package org.skyline.mcq.application.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.application.dtos.output.QuestionSummaryDto;
+import org.skyline.mcq.application.dtos.output.SurveyResponseDto;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SurveySnapshotCacheTest {
+
+    private SurveySnapshotCache surveySnapshotCache;
+    private SurveyResponseDto surveyResponseDtoTest;
+    private AtomicInteger loads;
+    private Function<UUID, Optional<SurveyResponseDto>> loader;
+
+    @BeforeEach
+    void setUp() {
+        surveySnapshotCache = new SurveySnapshotCache(new ObjectMapper(), 10, 60000);
+        surveyResponseDtoTest = SurveyResponseDto.builder()
+                .id(UUID.randomUUID())
+                .title("Java Basics")
+                .questions(Set.of(QuestionSummaryDto.builder().id(UUID.randomUUID()).content("What is a JVM?").build()))
+                .build();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return Optional.of(surveyResponseDtoTest);
+        };
+    }
+
+    @Test
+    @DisplayName("Get: Should serialize the survey once and serve the snapshot from the cache afterwards")
+    void testGetCachesSnapshot() {
+        var first = surveySnapshotCache.get(surveyResponseDtoTest.getId(), loader).orElseThrow();
+        var second = surveySnapshotCache.get(surveyResponseDtoTest.getId(), loader).orElseThrow();
+        var stats = surveySnapshotCache.stats();
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertTrue(first.survey().value().contains("\"title\":\"Java Basics\"")),
+                () -> assertTrue(first.questions().value().startsWith("[")),
+                () -> assertEquals(1, loads.get()),
+                () -> assertEquals(1, stats.getHitCount()),
+                () -> assertEquals(1, stats.getMissCount()),
+                () -> assertEquals(0.5, stats.getHitRate())
+        );
+    }
+
+    @Test
+    @DisplayName("Get: Should not cache surveys that are not found")
+    void testGetNotFound() {
+        UUID surveyId = UUID.randomUUID();
+
+        assertTrue(surveySnapshotCache.get(surveyId, id -> Optional.empty()).isEmpty());
+        assertEquals(0, surveySnapshotCache.stats().getSize());
+    }
+
+    @Test
+    @DisplayName("Invalidate: Should reload the survey under a new version")
+    void testInvalidateReloadsSnapshot() {
+        var first = surveySnapshotCache.get(surveyResponseDtoTest.getId(), loader).orElseThrow();
+
+        surveyResponseDtoTest.setTitle("Java Advanced");
+        surveySnapshotCache.invalidate(surveyResponseDtoTest.getId());
+        var second = surveySnapshotCache.get(surveyResponseDtoTest.getId(), loader).orElseThrow();
+
+        assertAll(
+                () -> assertEquals(2, loads.get()),
+                () -> assertTrue(second.version() > first.version()),
+                () -> assertTrue(second.survey().value().contains("\"title\":\"Java Advanced\""))
+        );
+    }
+
+    @Test
+    @DisplayName("Invalidate: Should keep the version table bounded and never reuse a version")
+    void testVersionsBounded() {
+        var first = surveySnapshotCache.get(surveyResponseDtoTest.getId(), loader).orElseThrow();
+
+        for (int i = 0; i < 100; i++) surveySnapshotCache.invalidate(UUID.randomUUID());
+        var second = surveySnapshotCache.get(surveyResponseDtoTest.getId(), loader).orElseThrow();
+
+        assertAll(
+                () -> assertTrue(surveySnapshotCache.trackedVersions() <= 10),
+                () -> assertTrue(second == first || second.version() > first.version())
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package org.skyline.mcq.domain.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidBinaryTest {
+
+    @Test
+    @DisplayName("UUID Binary: Should encode in the same byte order as MySQL UUID_TO_BIN")
+    void testToBytes() {
+        UUID uuid = UUID.fromString("0190a5f2-7c1e-7abc-8def-0123456789ab");
+
+        assertEquals("0190a5f27c1e7abc8def0123456789ab", HexFormat.of().formatHex(UuidBinary.toBytes(uuid)));
+    }
+
+    @Test
+    @DisplayName("UUID Binary: Should decode what it encodes")
+    void testRoundTrip() {
+        UUID uuid = UUID.randomUUID();
+
+        assertEquals(uuid, UuidBinary.fromBytes(UuidBinary.toBytes(uuid)));
+    }
+}
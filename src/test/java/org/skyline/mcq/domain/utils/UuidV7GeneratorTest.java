@@ -0,0 +1,51 @@
+package org.skyline.mcq.domain.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("UUIDv7: Should set the version and IETF variant")
+    void testVersionAndVariant() {
+        UUID uuid = UuidV7Generator.generate();
+
+        assertAll("Layout Validation",
+                () -> assertEquals(7, uuid.version(), "The version should be 7"),
+                () -> assertEquals(2, uuid.variant(), "The variant should be IETF")
+        );
+    }
+
+    @Test
+    @DisplayName("UUIDv7: Should embed the current Unix time in milliseconds")
+    void testTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.generate();
+        long after = System.currentTimeMillis();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+        assertTrue(timestamp >= before && timestamp <= after + 1, "The timestamp should be the generation time");
+    }
+
+    @Test
+    @DisplayName("UUIDv7: Should sort by generation order as text")
+    void testMonotonicText() {
+        List<String> generated = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) generated.add(UuidV7Generator.generate().toString());
+
+        List<String> sorted = new ArrayList<>(generated);
+        sorted.sort(null);
+
+        assertAll("Ordering Validation",
+                () -> assertEquals(generated, sorted, "IDs should already be sorted"),
+                () -> assertEquals(generated.size(), generated.stream().distinct().count(), "IDs should be unique")
+        );
+    }
+}
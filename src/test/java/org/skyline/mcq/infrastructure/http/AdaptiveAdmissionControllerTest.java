@@ -0,0 +1,130 @@
+package org.skyline.mcq.infrastructure.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.domain.exceptions.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveAdmissionControllerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    private AdaptiveAdmissionController controller(int limit, int queue, long queueTimeout) {
+        return new AdaptiveAdmissionController(limit, 2, 100, queue, queueTimeout, 500, 0.5, 0.5);
+    }
+
+    @Test
+    @DisplayName("Admission: Should raise the limit while saturated submissions stay fast")
+    void testAdditiveIncrease() {
+        AdaptiveAdmissionController controller = controller(4, 10, 100);
+
+        for (int i = 0; i < 4; i++) controller.acquire(AdmissionPriority.SUBMISSION);
+        for (int i = 0; i < 4; i++) controller.release(AdmissionPriority.SUBMISSION, FAST, false);
+
+        assertThat(controller.getLimit()).isEqualTo(4);
+        for (int i = 0; i < 8; i++) {
+            controller.acquire(AdmissionPriority.SUBMISSION);
+            controller.acquire(AdmissionPriority.SUBMISSION);
+            controller.acquire(AdmissionPriority.SUBMISSION);
+            controller.release(AdmissionPriority.SUBMISSION, FAST, false);
+            controller.release(AdmissionPriority.SUBMISSION, FAST, false);
+            controller.release(AdmissionPriority.SUBMISSION, FAST, false);
+        }
+        assertThat(controller.getLimit()).isGreaterThan(4);
+        assertThat(controller.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Admission: Should halve the limit when a submission is slow or fails")
+    void testMultiplicativeDecrease() {
+        AdaptiveAdmissionController controller = controller(16, 10, 100);
+
+        controller.acquire(AdmissionPriority.SUBMISSION);
+        controller.release(AdmissionPriority.SUBMISSION, SLOW, false);
+        controller.acquire(AdmissionPriority.SUBMISSION);
+        controller.release(AdmissionPriority.SUBMISSION, FAST, true);
+        controller.acquire(AdmissionPriority.SUBMISSION);
+        controller.release(AdmissionPriority.SUBMISSION, SLOW, false);
+        controller.acquire(AdmissionPriority.SUBMISSION);
+        controller.release(AdmissionPriority.SUBMISSION, SLOW, false);
+
+        assertThat(controller.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Admission: Should not let dashboard latency change the limit")
+    void testDashboardLatencyIgnored() {
+        AdaptiveAdmissionController controller = controller(8, 10, 100);
+
+        controller.acquire(AdmissionPriority.DASHBOARD);
+        controller.release(AdmissionPriority.DASHBOARD, SLOW, true);
+
+        assertThat(controller.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Admission: Should shed dashboard reads beyond their share while submissions still get in")
+    void testDashboardShare() {
+        AdaptiveAdmissionController controller = controller(4, 10, 100);
+
+        controller.acquire(AdmissionPriority.DASHBOARD);
+        controller.acquire(AdmissionPriority.DASHBOARD);
+
+        assertThatThrownBy(() -> controller.acquire(AdmissionPriority.DASHBOARD))
+                .isInstanceOf(ServiceUnavailableException.class);
+        controller.acquire(AdmissionPriority.SUBMISSION);
+        controller.acquire(AdmissionPriority.SUBMISSION);
+        assertThat(controller.getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Admission: Should reject a submission immediately when the queue is full")
+    void testQueueOverflow() {
+        AdaptiveAdmissionController controller = controller(2, 0, 10_000);
+
+        controller.acquire(AdmissionPriority.SUBMISSION);
+        controller.acquire(AdmissionPriority.SUBMISSION);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> controller.acquire(AdmissionPriority.SUBMISSION))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("Admission: Should reject a queued submission once the queue timeout passes")
+    void testQueueTimeout() {
+        AdaptiveAdmissionController controller = controller(2, 10, 20);
+
+        controller.acquire(AdmissionPriority.SUBMISSION);
+        controller.acquire(AdmissionPriority.SUBMISSION);
+
+        assertThatThrownBy(() -> controller.acquire(AdmissionPriority.SUBMISSION))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(controller.getQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("Admission: Should admit a queued submission when a slot is released and keep dashboards out meanwhile")
+    void testQueuedSubmissionAdmitted() throws Exception {
+        AdaptiveAdmissionController controller = controller(2, 10, 5_000);
+        controller.acquire(AdmissionPriority.SUBMISSION);
+        controller.acquire(AdmissionPriority.SUBMISSION);
+
+        CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> controller.acquire(AdmissionPriority.SUBMISSION));
+        while (controller.getQueued() == 0) Thread.onSpinWait();
+
+        assertThatThrownBy(() -> controller.acquire(AdmissionPriority.DASHBOARD))
+                .isInstanceOf(ServiceUnavailableException.class);
+        controller.release(AdmissionPriority.SUBMISSION, FAST, false);
+        queued.get(5, TimeUnit.SECONDS);
+
+        assertThat(controller.getInFlight()).isEqualTo(2);
+    }
+}
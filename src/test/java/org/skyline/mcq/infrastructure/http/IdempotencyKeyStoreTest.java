@@ -0,0 +1,141 @@
+package org.skyline.mcq.infrastructure.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.domain.exceptions.ConflictException;
+import org.skyline.mcq.domain.exceptions.ServiceUnavailableException;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyKeyStoreTest {
+
+    private IdempotencyKeyStore idempotencyKeyStore;
+    private UUID accountId;
+    private UUID surveyId;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyStore = new IdempotencyKeyStore(new ObjectMapper(), 1 << 20, 60000, 5000);
+        accountId = UUID.randomUUID();
+        surveyId = UUID.randomUUID();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Idempotency: Should replay the first response for a repeated key")
+    void testReplay() {
+        String first = idempotencyKeyStore.execute(accountId, "key-1", surveyId, () -> "result-" + calls.incrementAndGet());
+        String second = idempotencyKeyStore.execute(accountId, "key-1", surveyId, () -> "result-" + calls.incrementAndGet());
+
+        assertThat(second).isEqualTo(first);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Idempotency: Should run every request that has no key")
+    void testWithoutKey() {
+        idempotencyKeyStore.execute(accountId, null, surveyId, calls::incrementAndGet);
+        idempotencyKeyStore.execute(accountId, " ", surveyId, calls::incrementAndGet);
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Idempotency: Should keep keys of different accounts apart")
+    void testKeysScopedByAccount() {
+        idempotencyKeyStore.execute(accountId, "key-1", surveyId, calls::incrementAndGet);
+        idempotencyKeyStore.execute(UUID.randomUUID(), "key-1", surveyId, calls::incrementAndGet);
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Idempotency: Should reject a key reused for a different survey")
+    void testFingerprintMismatch() {
+        idempotencyKeyStore.execute(accountId, "key-1", surveyId, calls::incrementAndGet);
+
+        assertThatThrownBy(() -> idempotencyKeyStore.execute(accountId, "key-1", UUID.randomUUID(), calls::incrementAndGet))
+                .isInstanceOf(ConflictException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Idempotency: Should reject a key reused with a different body for the same survey")
+    void testFingerprintCoversWholeRequest() {
+        idempotencyKeyStore.execute(accountId, "key-1", new Request(surveyId, "optionA"), calls::incrementAndGet);
+
+        assertThatThrownBy(() -> idempotencyKeyStore.execute(accountId, "key-1", new Request(surveyId, "optionB"), calls::incrementAndGet))
+                .isInstanceOf(ConflictException.class);
+        assertThat(idempotencyKeyStore.execute(accountId, "key-1", new Request(surveyId, "optionA"), calls::incrementAndGet)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Idempotency: Should evict replayed responses once the store outgrows its memory bound")
+    void testBoundedByResponseSize() {
+        IdempotencyKeyStore bounded = new IdempotencyKeyStore(new ObjectMapper(), 4096, 60000, 5000);
+        String large = "x".repeat(2048);
+
+        for (int i = 0; i < 10; i++) bounded.execute(accountId, "key-" + i, surveyId, () -> large + calls.incrementAndGet());
+        bounded.cleanUp();
+        for (int i = 0; i < 10; i++) bounded.execute(accountId, "key-" + i, surveyId, () -> large + calls.incrementAndGet());
+
+        // Only one response of this size fits, so at most one of the repeated keys can be replayed.
+        assertThat(calls.get()).isGreaterThanOrEqualTo(19);
+    }
+
+    @Test
+    @DisplayName("Idempotency: Should forget a key whose request failed so it can be retried")
+    void testFailureReleasesKey() {
+        assertThatThrownBy(() -> idempotencyKeyStore.execute(accountId, "key-1", surveyId, () -> {
+            throw new ServiceUnavailableException("busy");
+        })).isInstanceOf(ServiceUnavailableException.class);
+
+        String retried = idempotencyKeyStore.execute(accountId, "key-1", surveyId, () -> "result");
+
+        assertThat(retried).isEqualTo("result");
+    }
+
+    @Test
+    @DisplayName("Idempotency: Should make a racing retry wait for the original request instead of running again")
+    void testRacingRetries() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        CompletableFuture<String> original = CompletableFuture.supplyAsync(() ->
+                idempotencyKeyStore.execute(accountId, "key-1", surveyId, () -> {
+                    started.countDown();
+                    await(finish);
+                    return "result-" + calls.incrementAndGet();
+                }));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> retry = CompletableFuture.supplyAsync(() ->
+                idempotencyKeyStore.execute(accountId, "key-1", surveyId, () -> "result-" + calls.incrementAndGet()));
+
+        finish.countDown();
+
+        assertThat(original.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(calls).hasValue(1);
+    }
+
+    private record Request(UUID surveyId, String answer) {
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.skyline.mcq.application.dtos.input.LoginRequestDto;
 import org.skyline.mcq.application.dtos.input.RefreshTokenRequestDto;
 import org.skyline.mcq.application.dtos.input.SignUpRequestDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -17,11 +18,13 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.util.Objects;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
+@AutoConfigureMockMvc
 class AuthAPITest {
 
     @Autowired
@@ -30,6 +33,9 @@ class AuthAPITest {
     @Autowired
     private WebApplicationContext wac;
 
+    @Autowired
+    private MockMvc securedMockMvc;
+
     private MockMvc mockMvc;
     private SignUpRequestDto creatorSignUpRequest;
     private SignUpRequestDto respondentSignUpRequest;
@@ -172,4 +178,37 @@ class AuthAPITest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.refreshToken").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should revoke access and refresh tokens on logout")
+    void testLogoutRevokesTokens(@Autowired AuthAPI authAPI) throws Exception {
+        SignUpRequestDto logoutUser = SignUpRequestDto.builder()
+                .firstName("Logout")
+                .lastName("User")
+                .username("logoutuser")
+                .email("logout.user@gmail.com")
+                .password("password")
+                .build();
+
+        var tokens = Objects.requireNonNull(authAPI.registerRespondent(logoutUser).getBody());
+        RefreshTokenRequestDto logoutRefreshRequest = new RefreshTokenRequestDto();
+        logoutRefreshRequest.setRefreshToken(tokens.getRefreshToken());
+
+        securedMockMvc.perform(get("/api/v1/accounts")
+                        .header("Authorization", "Bearer " + tokens.getAccessToken()))
+                .andExpect(status().isOk());
+
+        securedMockMvc.perform(post(AUTH_BASE_PATH + "/logout")
+                        .header("Authorization", "Bearer " + tokens.getAccessToken()))
+                .andExpect(status().isNoContent());
+
+        securedMockMvc.perform(get("/api/v1/accounts")
+                        .header("Authorization", "Bearer " + tokens.getAccessToken()))
+                .andExpect(status().isForbidden());
+
+        securedMockMvc.perform(post(AUTH_BASE_PATH + "/refresh-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(logoutRefreshRequest)))
+                .andExpect(status().isNotFound());
+    }
+}
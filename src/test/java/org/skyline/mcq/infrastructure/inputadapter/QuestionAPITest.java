@@ -28,6 +28,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
+import java.util.StringJoiner;
 import java.util.UUID;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -133,6 +134,18 @@ class QuestionAPITest {
         return Objects.requireNonNull(authAPI.registerUserWithRole(request, TypeRole.ROLE_SURVEY_CREATOR).getBody()).getAccessToken();
     }
 
+    private static String optionsJson(int count) {
+        StringJoiner options = new StringJoiner(",", "{", "}");
+        for (int i = 0; i < count; i++) options.add("\"option" + i + "\":\"Value " + i + "\"");
+        return options.toString();
+    }
+
+    private static String optionsArrayJson(int count) {
+        StringJoiner options = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < count; i++) options.add("\"Value " + i + "\"");
+        return options.toString();
+    }
+
     private ResultActions performAuthorizedRequest(HttpMethod method, String path, Object body, Object... uriVars) throws Exception {
         var request = MockMvcRequestBuilders.request(method, path, uriVars)
                 .header("Authorization", "Bearer " + tokenCreator)
@@ -209,6 +222,26 @@ class QuestionAPITest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @DisplayName("Create Question: Should return 400 Bad Request when the question has more options than scoring supports")
+    void testSaveQuestionTooManyOptions() throws Exception {
+        questionRequestDtoTest.setSurveyId(surveyId);
+        questionRequestDtoTest.setOptions(optionsJson(64));
+
+        performAuthorizedRequest(HttpMethod.POST, QuestionAPITest.QUESTION_PATH, questionRequestDtoTest)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Create Question: Should return 400 Bad Request when the options array has more entries than scoring supports")
+    void testSaveQuestionTooManyArrayOptions() throws Exception {
+        questionRequestDtoTest.setSurveyId(surveyId);
+        questionRequestDtoTest.setOptions(optionsArrayJson(64));
+
+        performAuthorizedRequest(HttpMethod.POST, QuestionAPITest.QUESTION_PATH, questionRequestDtoTest)
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Update Question: Should return 404 Not Found when question does not exist")
     void testUpdateQuestionNotFound() throws Exception {
@@ -225,6 +258,15 @@ class QuestionAPITest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Update Question: Should return 400 Bad Request when the question has more options than scoring supports")
+    void testUpdateQuestionTooManyOptions() throws Exception {
+        questionUpdateRequestDtoTest.setOptions(optionsJson(64));
+
+        performAuthorizedRequest(HttpMethod.PUT, QuestionAPITest.QUESTION_PATH_ID, questionUpdateRequestDtoTest, UUID.randomUUID())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Delete Question: Should delete a question and return 204 No Content")
     void testDeleteQuestion() throws Exception {
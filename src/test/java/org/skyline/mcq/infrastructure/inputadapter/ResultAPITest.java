@@ -5,12 +5,16 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.skyline.mcq.application.dtos.input.SignUpRequestDto;
+import org.skyline.mcq.application.dtos.output.SubmissionSummaryDto;
+import org.skyline.mcq.application.dtos.output.SurveyStatsDto;
+import org.skyline.mcq.application.events.SurveySubmissionEvent;
 import org.skyline.mcq.domain.enums.TypeRole;
 import org.skyline.mcq.domain.exceptions.NotFoundException;
 import org.skyline.mcq.domain.models.Account;
 import org.skyline.mcq.domain.models.Category;
 import org.skyline.mcq.domain.models.Result;
 import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.infrastructure.http.SurveyDashboardHub;
 import org.skyline.mcq.infrastructure.outputport.AccountRepository;
 import org.skyline.mcq.infrastructure.outputport.CategoryRepository;
 import org.skyline.mcq.infrastructure.outputport.ResultRepository;
@@ -28,11 +32,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -185,6 +196,66 @@ class ResultAPITest {
                 );
     }
 
+    @Test
+    @DisplayName("(CREATOR) Export Results by Survey ID: Should stream a CSV with a header and one line per result")
+    void testExportResultBySurveyId() throws Exception {
+        var mvcResult = performAuthorizedRequest(HttpMethod.GET, RESULT_PATH_SURVEY_ID + "/export", tokenCreator, null, surveyId)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string("Content-Disposition", containsString("results-" + surveyId + ".csv")),
+                        content().string(startsWith("result_id,account_id,username,")),
+                        content().string(containsString(resultId + "," + accountId + ",respondentResult,"))
+                );
+    }
+
+    @Test
+    @DisplayName("(CREATOR) Export Results by Survey ID: Should return 404 Not Found")
+    void testExportResultBySurveyIdNotFound() throws Exception {
+        performAuthorizedRequest(HttpMethod.GET, RESULT_PATH_SURVEY_ID + "/export", tokenCreator, null, UUID.randomUUID())
+                .andExpectAll(
+                        status().isNotFound(),
+                        jsonPath("$.status").value(404)
+                );
+    }
+
+    @Test
+    @DisplayName("(CREATOR) Stream live Results by Survey ID: Should push the current stats and then each new submission")
+    void testStreamResultBySurveyId(@Autowired SurveyDashboardHub surveyDashboardHub) throws Exception {
+        var mvcResult = performAuthorizedRequest(HttpMethod.GET, RESULT_PATH_SURVEY_ID + "/live", tokenCreator, null, surveyId)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        UUID newResultId = UUID.randomUUID();
+        surveyDashboardHub.onSubmission(new SurveySubmissionEvent(surveyId, SurveyStatsDto.builder().surveyId(surveyId).attemptCount(42L).build(),
+                List.of(new SubmissionSummaryDto(newResultId, accountId, 7, 1000, null))));
+
+        var response = mvcResult.getResponse();
+        for (int attempt = 0; attempt < 50 && !response.getContentAsString().contains(newResultId.toString()); attempt++) {
+            Thread.sleep(20);
+        }
+
+        assertAll(
+                () -> assertEquals(1, surveyDashboardHub.countSubscribers(surveyId)),
+                () -> assertTrue(response.getContentAsString().startsWith("event:update")),
+                () -> assertTrue(response.getContentAsString().contains("\"attemptCount\":42")),
+                () -> assertTrue(response.getContentAsString().contains(newResultId.toString()))
+        );
+    }
+
+    @Test
+    @DisplayName("(CREATOR) Stream live Results by Survey ID: Should return 404 Not Found")
+    void testStreamResultBySurveyIdNotFound() throws Exception {
+        performAuthorizedRequest(HttpMethod.GET, RESULT_PATH_SURVEY_ID + "/live", tokenCreator, null, UUID.randomUUID())
+                .andExpectAll(
+                        status().isNotFound(),
+                        jsonPath("$.status").value(404)
+                );
+    }
+
     @Test
     @DisplayName("(RESPONDENT) Get all result of my account: Should return 200 OK")
     void testGetAllResultOfAccount() throws Exception {
@@ -195,6 +266,28 @@ class ResultAPITest {
                 );
     }
 
+    @Test
+    @DisplayName("(RESPONDENT) Get all result of my account with a cursor: Should return a slice without totals")
+    void testGetAllResultOfAccountWithCursor() throws Exception {
+        performAuthorizedRequest(HttpMethod.GET, RESULT_PATH_MY_ACCOUNT + "?after=&pageSize=1", tokenRespondent, null)
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.data.content").isArray(),
+                        jsonPath("$.data.totalElements").doesNotExist(),
+                        jsonPath("$.data.nextCursor").hasJsonPath()
+                );
+    }
+
+    @Test
+    @DisplayName("(RESPONDENT) Get all result of my account with a malformed cursor: Should return 400 Bad Request")
+    void testGetAllResultOfAccountWithInvalidCursor() throws Exception {
+        performAuthorizedRequest(HttpMethod.GET, RESULT_PATH_MY_ACCOUNT + "?after=not-a-cursor", tokenRespondent, null)
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.status").value(400)
+                );
+    }
+
     @Test
     @DisplayName("(RESPONDENT) Get Result by Survey Id and Account Id: Should return 200 OK")
     void testGetResultBySurveyIdAndAccountId() throws Exception {
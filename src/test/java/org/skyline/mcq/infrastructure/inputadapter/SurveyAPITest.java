@@ -29,6 +29,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import java.util.Objects;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -242,6 +243,19 @@ class SurveyAPITest {
                 );
     }
 
+    @Test
+    @DisplayName("(Admin) Get Survey Summaries: should return 200 OK without questions")
+    void getSurveySummariesAdmin() throws Exception {
+
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_PATH + "/admin/summary", tokenAdmin, null)
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.data.content").isArray(),
+                        jsonPath("$.data.content[0].questionCount").isNumber(),
+                        jsonPath("$.data.content[0].questions").doesNotExist()
+                );
+    }
+
     @Test
     @DisplayName("Get Survey By ID: should return 200 OK")
     void getSurveyById() throws Exception {
@@ -288,6 +302,100 @@ class SurveyAPITest {
                 );
     }
 
+    @Test
+    @DisplayName("Get Survey By ID: should return the updated survey after it is modified")
+    void getSurveyByIdAfterUpdate() throws Exception {
+
+        String response = performAuthorizedRequest(HttpMethod.POST, SURVEY_PATH, tokenCreator, surveyRequestDtoTest)
+                .andReturn().getResponse().getContentAsString();
+        String surveyId = objectMapper.readTree(response).path("data").path("id").asText();
+
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_PATH_ID, tokenRespondent, null, surveyId)
+                .andExpect(jsonPath("$.data.title", is(TEST_TITLE)));
+
+        surveyUpdateRequestDtoTest.setTitle("updated snapshot title");
+        performAuthorizedRequest(HttpMethod.PUT, SURVEY_PATH_ID, tokenCreator, surveyUpdateRequestDtoTest, surveyId)
+                .andExpect(status().isNoContent());
+
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_PATH_ID, tokenRespondent, null, surveyId)
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.data.title", is("updated snapshot title"))
+                );
+    }
+
+    @Test
+    @DisplayName("Get Survey Cache Stats: should return 200 OK for admin")
+    void getSurveyCacheStats() throws Exception {
+
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_PATH_ID, tokenRespondent, null, surveyIdA);
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_PATH_ID, tokenRespondent, null, surveyIdA);
+
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_PATH + "/cache-stats", tokenAdmin, null)
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.data.hitCount").isNumber(),
+                        jsonPath("$.data.hitRate").isNumber()
+                );
+    }
+
+    @Test
+    @DisplayName("Get Survey Stats: should return 200 OK with empty statistics for the creator")
+    void getSurveyStats() throws Exception {
+
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_PATH_ID + "/stats", tokenCreator, null, surveyIdA)
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.data.attemptCount").value(0),
+                        jsonPath("$.data.histogram", hasSize(10))
+                );
+    }
+
+    @Test
+    @DisplayName("Get Survey Stats: should return 404 Not Found when survey ID is invalid")
+    void getSurveyStatsNotFound() throws Exception {
+
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_PATH_ID + "/stats", tokenCreator, null, UUID.randomUUID())
+                .andExpectAll(
+                        status().isNotFound(),
+                        jsonPath("$.status").value(404)
+                );
+    }
+
+    @Test
+    @DisplayName("(Admin) Rebuild Survey Stats: should return 200 OK with the recomputed statistics")
+    void rebuildSurveyStats() throws Exception {
+
+        performAuthorizedRequest(HttpMethod.POST, SURVEY_PATH_ID + "/stats/rebuild", tokenAdmin, null, surveyIdA)
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.data.surveyId", is(surveyIdA.toString())),
+                        jsonPath("$.data.attemptCount").value(0)
+                );
+    }
+
+    @Test
+    @DisplayName("Get Question Analytics: should return 200 OK for the creator")
+    void getQuestionAnalytics() throws Exception {
+
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_QUESTION_PATH_ID + "/analytics", tokenCreator, null, surveyIdA)
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.data").isArray()
+                );
+    }
+
+    @Test
+    @DisplayName("Get Question Analytics: should return 404 Not Found when survey ID is invalid")
+    void getQuestionAnalyticsNotFound() throws Exception {
+
+        performAuthorizedRequest(HttpMethod.GET, SURVEY_QUESTION_PATH_ID + "/analytics", tokenCreator, null, UUID.randomUUID())
+                .andExpectAll(
+                        status().isNotFound(),
+                        jsonPath("$.status").value(404)
+                );
+    }
+
     @Test
     @DisplayName("Update Survey: should return 204 No Content")
     void updateSurvey() throws Exception {
@@ -0,0 +1,80 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlledDataSourceTest {
+
+    @Mock
+    DataSource target;
+
+    @Mock
+    Connection connection;
+
+    AdmissionControlledDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new AdmissionControlledDataSource(target, 1, 10, 20);
+    }
+
+    @Test
+    @DisplayName("Database Admission: Should hold a permit until the connection is closed")
+    void testReleasePermitOnClose() throws SQLException {
+        given(target.getConnection()).willReturn(connection);
+
+        Connection admitted = dataSource.getConnection();
+        int whileOpen = dataSource.getAvailablePermits();
+        admitted.close();
+        admitted.close();
+
+        assertAll("Permit Validation",
+                () -> assertEquals(0, whileOpen, "An open connection should hold the only permit"),
+                () -> assertEquals(1, dataSource.getAvailablePermits(), "Closing twice should release the permit once")
+        );
+        then(connection).should(times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Database Admission: Should reject a caller that waits longer than the timeout")
+    void testRejectAfterTimeout() throws SQLException {
+        given(target.getConnection()).willReturn(connection);
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection, "The second caller should time out");
+        assertEquals(0, dataSource.getWaiting(), "A rejected caller should leave the queue");
+    }
+
+    @Test
+    @DisplayName("Database Admission: Should reject a caller immediately when the queue is full")
+    void testRejectWhenQueueIsFull() {
+        dataSource = new AdmissionControlledDataSource(target, 1, 0, 1000);
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection, "No caller may wait when the queue is empty");
+        then(target).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Database Admission: Should release the permit when the pool fails to hand out a connection")
+    void testReleasePermitOnPoolFailure() throws SQLException {
+        given(target.getConnection()).willThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, dataSource::getConnection, "The pool failure should reach the caller");
+        assertEquals(1, dataSource.getAvailablePermits(), "The permit should be returned");
+    }
+}
@@ -0,0 +1,100 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.application.utils.SurveyStatsRecorder;
+import org.skyline.mcq.infrastructure.outputport.AnswerRepository;
+import org.skyline.mcq.infrastructure.outputport.ResultRepository;
+import org.skyline.mcq.infrastructure.outputport.SurveyStatsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "submission-mode=async")
+@Import({ResultBatchWriter.class, SurveyStatsRecorder.class})
+@Sql(scripts = {"classpath:createSurvey.sql"})
+class ResultBatchWriterTest {
+
+    static UUID accountId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    static UUID surveyId = UUID.fromString("44444444-4444-4444-4444-444444444444");
+    static UUID questionId = UUID.fromString("55555555-5555-5555-5555-555555555555");
+    static UUID existingResultId = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    @Autowired
+    ResultBatchWriter resultBatchWriter;
+
+    @Autowired
+    ResultRepository resultRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    SurveyStatsRepository surveyStatsRepository;
+
+    @Test
+    @DisplayName("Test inserting a batch of results with their answers")
+    void testInsert() {
+        PendingSubmission first = submission(questionId);
+        PendingSubmission second = submission(questionId);
+
+        resultBatchWriter.insert(List.of(first, second));
+
+        var saved = resultRepository.findByIdAndAccountId(first.getId(), accountId).orElseThrow();
+
+        assertAll(() -> {
+            assertTrue(resultRepository.existsById(second.getId()));
+            assertEquals(surveyId, saved.getSurvey().getId());
+            assertEquals(10, saved.getTotalPoints());
+            assertEquals(first.getId(), answerRepository.findById(first.getAnswers().getFirst().getId()).orElseThrow().getResult().getId());
+            assertEquals(2, surveyStatsRepository.findById(surveyId).orElseThrow().getAttemptCount());
+        });
+    }
+
+    @Test
+    @DisplayName("Test inserting a batch that references a missing question")
+    void testInsertMissingQuestion() {
+        List<PendingSubmission> batch = List.of(submission(UUID.randomUUID()));
+
+        assertThrows(DataIntegrityViolationException.class, () -> resultBatchWriter.insert(batch));
+    }
+
+    @Test
+    @DisplayName("Test finding which results already exist")
+    void testFindExistingIds() {
+        Set<UUID> existing = resultBatchWriter.findExistingIds(List.of(existingResultId, UUID.randomUUID()));
+
+        assertEquals(Set.of(existingResultId), existing);
+    }
+
+    static PendingSubmission submission(UUID questionId) {
+        return PendingSubmission.builder()
+                .id(UUID.randomUUID())
+                .accountId(accountId)
+                .surveyId(surveyId)
+                .startTime(new Timestamp(System.currentTimeMillis()))
+                .endTime(new Timestamp(System.currentTimeMillis()))
+                .duration(0)
+                .totalPoints(10)
+                .correctAnswers(1)
+                .incorrectAnswers(0)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .answers(List.of(PendingAnswer.builder()
+                        .id(UUID.randomUUID())
+                        .questionId(questionId)
+                        .userAnswers("[\"Paris\"]")
+                        .isCorrect(true)
+                        .points(10)
+                        .build()))
+                .build();
+    }
+}
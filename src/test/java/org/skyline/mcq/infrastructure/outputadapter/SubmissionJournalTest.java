@@ -0,0 +1,166 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubmissionJournalTest {
+
+    static final long COMPACTION_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    Path path;
+    SubmissionJournal submissionJournal;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("journal.log");
+        submissionJournal = new SubmissionJournal(new ObjectMapper(), path.toString(), true, COMPACTION_SIZE);
+        submissionJournal.recover();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        submissionJournal.close();
+    }
+
+    @Test
+    @DisplayName("Submission Journal: Should recover submissions that were never committed")
+    void testRecoverPendingSubmissions() throws IOException {
+        PendingSubmission first = submission();
+        PendingSubmission second = submission();
+        submissionJournal.append(first);
+        submissionJournal.append(second);
+        submissionJournal.commit(List.of(first.getId()));
+        submissionJournal.close();
+
+        SubmissionJournal reopened = new SubmissionJournal(new ObjectMapper(), path.toString(), true, COMPACTION_SIZE);
+        List<PendingSubmission> recovered = reopened.recover();
+        reopened.close();
+
+        assertAll("Journal Recovery Validation",
+                () -> assertEquals(1, recovered.size(), "Only the uncommitted submission should be recovered"),
+                () -> assertEquals(second.getId(), recovered.getFirst().getId(), "The uncommitted submission should be recovered"),
+                () -> assertEquals(second.getAnswers().getFirst().getQuestionId(), recovered.getFirst().getAnswers().getFirst().getQuestionId(), "Answers should survive recovery"),
+                () -> assertEquals(1, Files.readAllLines(path).size(), "The journal should be compacted on recovery")
+        );
+    }
+
+    @Test
+    @DisplayName("Submission Journal: Should truncate the journal once every submission is committed")
+    void testCommitTruncatesWhenEmpty() throws IOException {
+        PendingSubmission submission = submission();
+        submissionJournal.append(submission);
+
+        assertTrue(Files.size(path) > 0, "The submission should be journaled");
+
+        submissionJournal.commit(List.of(submission.getId()));
+
+        assertAll("Journal Truncation Validation",
+                () -> assertEquals(0, Files.size(path), "The journal should be empty"),
+                () -> assertEquals(0, submissionJournal.size(), "No submission should be pending")
+        );
+    }
+
+    @Test
+    @DisplayName("Submission Journal: Should compact the journal once it outgrows the compaction size")
+    void testCommitCompactsBySize() throws IOException {
+        PendingSubmission stuck = submission();
+        submissionJournal.append(stuck);
+
+        for (int i = 0; i < 100; i++) {
+            PendingSubmission submission = submission();
+            submissionJournal.append(submission);
+            submissionJournal.commit(List.of(submission.getId()));
+        }
+        submissionJournal.close();
+
+        SubmissionJournal reopened = new SubmissionJournal(new ObjectMapper(), path.toString(), true, COMPACTION_SIZE);
+        List<PendingSubmission> recovered = reopened.recover();
+        reopened.close();
+
+        assertAll("Journal Compaction Validation",
+                () -> assertTrue(Files.size(path) < COMPACTION_SIZE, "The journal should stay bounded while a submission is pending"),
+                () -> assertEquals(List.of(stuck.getId()), recovered.stream().map(PendingSubmission::getId).toList(), "The pending submission should survive compaction")
+        );
+    }
+
+    @Test
+    @DisplayName("Submission Journal: Should keep every entry appended concurrently under group commit")
+    void testConcurrentAppends() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 200; i++) executor.submit(() -> submissionJournal.append(submission()));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        submissionJournal.close();
+
+        SubmissionJournal reopened = new SubmissionJournal(new ObjectMapper(), path.toString(), true, COMPACTION_SIZE);
+        List<PendingSubmission> recovered = reopened.recover();
+        reopened.close();
+
+        assertEquals(200, recovered.size(), "Every appended submission should be recovered");
+    }
+
+    @Test
+    @DisplayName("Submission Journal: Should skip a torn trailing entry")
+    void testRecoverSkipsTornEntry() throws IOException {
+        PendingSubmission submission = submission();
+        submissionJournal.append(submission);
+        submissionJournal.close();
+        Files.writeString(path, "{\"submission\":{\"id\":", StandardOpenOption.APPEND);
+
+        SubmissionJournal reopened = new SubmissionJournal(new ObjectMapper(), path.toString(), true, COMPACTION_SIZE);
+        List<PendingSubmission> recovered = reopened.recover();
+        reopened.close();
+
+        assertEquals(List.of(submission.getId()), recovered.stream().map(PendingSubmission::getId).toList(), "Only the complete entry should be recovered");
+    }
+
+    @Test
+    @DisplayName("Submission Journal: Should reject appends before recovery")
+    void testAppendBeforeRecover() {
+        SubmissionJournal unrecovered = new SubmissionJournal(new ObjectMapper(), directory.resolve("other.log").toString(), true, COMPACTION_SIZE);
+
+        assertThrows(IllegalStateException.class, () -> unrecovered.append(submission()));
+    }
+
+    static PendingSubmission submission() {
+        return PendingSubmission.builder()
+                .id(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .surveyId(UUID.randomUUID())
+                .startTime(new Timestamp(System.currentTimeMillis()))
+                .endTime(new Timestamp(System.currentTimeMillis()))
+                .duration(0)
+                .totalPoints(10)
+                .correctAnswers(1)
+                .incorrectAnswers(0)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .answers(List.of(PendingAnswer.builder()
+                        .id(UUID.randomUUID())
+                        .questionId(UUID.randomUUID())
+                        .userAnswers("[\"Paris\"]")
+                        .isCorrect(true)
+                        .points(10)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,227 @@
+package org.skyline.mcq.infrastructure.outputadapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.skyline.mcq.domain.enums.SubmissionStatus;
+import org.skyline.mcq.domain.exceptions.ServiceUnavailableException;
+import org.skyline.mcq.domain.models.*;
+import org.skyline.mcq.infrastructure.outputport.ResultRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindResultWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    ResultRepository resultRepository;
+
+    @Mock
+    ResultBatchWriter resultBatchWriter;
+
+    SubmissionJournal submissionJournal;
+    WriteBehindResultWriter writeBehindResultWriter;
+    Account accountTest;
+    Survey surveyTest;
+
+    @BeforeEach
+    void setUp() {
+        submissionJournal = new SubmissionJournal(new ObjectMapper(), directory.resolve("journal.log").toString(), false, 1 << 20);
+        writeBehindResultWriter = new WriteBehindResultWriter(resultRepository, resultBatchWriter, submissionJournal, 1, 10, 10, 10, 60000);
+        accountTest = Account.builder().id(UUID.randomUUID()).build();
+        surveyTest = Survey.builder().id(UUID.randomUUID()).build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        writeBehindResultWriter.stop();
+        submissionJournal.close();
+    }
+
+    @Test
+    @DisplayName("Write Behind: Should assign an ID and persist the result in the background")
+    void testWrite() {
+        writeBehindResultWriter.start();
+
+        Result result = result();
+        SubmissionStatus status = writeBehindResultWriter.write(result);
+
+        assertAll("Write Behind Validation",
+                () -> assertEquals(SubmissionStatus.PENDING, status, "The submission should be pending"),
+                () -> assertNotNull(result.getId(), "The result should get an ID immediately"),
+                () -> assertNotNull(result.getAnswers().iterator().next().getId(), "Answers should get an ID immediately")
+        );
+
+        verify(resultBatchWriter, timeout(5000)).insert(argThat(batch -> batch.getFirst().getId().equals(result.getId())));
+        awaitStatus(result.getId(), SubmissionStatus.PERSISTED);
+        assertEquals(0, submissionJournal.size(), "The journal should be empty once persisted");
+    }
+
+    @Test
+    @DisplayName("Write Behind: Should mark a submission as failed when it violates a constraint")
+    void testWriteConstraintViolation() {
+        willThrow(new DataIntegrityViolationException("question")).given(resultBatchWriter).insert(anyList());
+        writeBehindResultWriter.start();
+
+        Result result = result();
+        writeBehindResultWriter.write(result);
+
+        awaitStatus(result.getId(), SubmissionStatus.FAILED);
+        assertEquals(0, submissionJournal.size(), "A failed submission should not be retried");
+    }
+
+    @Test
+    @DisplayName("Write Behind: Should mark a submission as persisted when a retry finds it already inserted")
+    void testWriteAlreadyPersisted() {
+        willThrow(new DataIntegrityViolationException("duplicate")).given(resultBatchWriter).insert(anyList());
+        given(resultBatchWriter.findExistingIds(any())).willAnswer(invocation -> new HashSet<UUID>(invocation.getArgument(0)));
+        writeBehindResultWriter.start();
+
+        Result result = result();
+        writeBehindResultWriter.write(result);
+
+        awaitStatus(result.getId(), SubmissionStatus.PERSISTED);
+        assertEquals(0, submissionJournal.size());
+    }
+
+    @Test
+    @DisplayName("Write Behind: Should retry a batch after a transient failure")
+    void testWriteRetry() {
+        doThrow(new IllegalStateException("connection")).doNothing().when(resultBatchWriter).insert(anyList());
+        writeBehindResultWriter.start();
+
+        Result result = result();
+        writeBehindResultWriter.write(result);
+
+        awaitStatus(result.getId(), SubmissionStatus.PERSISTED);
+        verify(resultBatchWriter, times(2)).insert(anyList());
+    }
+
+    @Test
+    @DisplayName("Write Behind: Should persist journaled submissions recovered on start")
+    void testStartRecoversJournal() {
+        PendingSubmission persisted = SubmissionJournalTest.submission();
+        PendingSubmission pending = SubmissionJournalTest.submission();
+        submissionJournal.recover();
+        submissionJournal.append(persisted);
+        submissionJournal.append(pending);
+        given(resultBatchWriter.findExistingIds(any())).willReturn(Set.of(persisted.getId()));
+
+        writeBehindResultWriter.start();
+
+        verify(resultBatchWriter, timeout(5000)).insert(argThat(batch -> batch.size() == 1 && batch.getFirst().getId().equals(pending.getId())));
+        awaitStatus(pending.getId(), pending.getAccountId(), SubmissionStatus.PERSISTED);
+    }
+
+    @Test
+    @DisplayName("Write Behind: Should only journal a submission once its transaction commits")
+    void testWriteRolledBack() {
+        writeBehindResultWriter.start();
+        Result result = result();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writeBehindResultWriter.write(result);
+            assertEquals(0, submissionJournal.size(), "Nothing should be journaled before the commit");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertAll("Rollback Validation",
+                () -> assertEquals(0, submissionJournal.size(), "A rolled back submission should not be journaled"),
+                () -> assertTrue(writeBehindResultWriter.findStatus(result.getId(), accountTest.getId()).isEmpty(), "A rolled back submission should not be tracked")
+        );
+        verifyNoInteractions(resultBatchWriter);
+    }
+
+    @Test
+    @DisplayName("Write Behind: Should reject submissions when not running")
+    void testWriteNotRunning() {
+        Result result = result();
+
+        assertThrows(ServiceUnavailableException.class, () -> writeBehindResultWriter.write(result));
+        verifyNoInteractions(resultBatchWriter);
+    }
+
+    @Test
+    @DisplayName("Write Behind: Should only report status to the submitting account")
+    void testFindStatusOtherAccount() {
+        writeBehindResultWriter.start();
+        Result result = result();
+        writeBehindResultWriter.write(result);
+
+        assertTrue(writeBehindResultWriter.findStatus(result.getId(), UUID.randomUUID()).isEmpty(), "Other accounts should not see the status");
+    }
+
+    @Test
+    @DisplayName("Write Behind: Should fall back to the database for unknown submissions")
+    void testFindStatusPersistedEarlier() {
+        UUID resultId = UUID.randomUUID();
+        given(resultRepository.existsByIdAndAccountId(resultId, accountTest.getId())).willReturn(true);
+
+        assertEquals(Optional.of(SubmissionStatus.PERSISTED), writeBehindResultWriter.findStatus(resultId, accountTest.getId()));
+    }
+
+    private void awaitStatus(UUID resultId, SubmissionStatus status) {
+        awaitStatus(resultId, accountTest.getId(), status);
+    }
+
+    private void awaitStatus(UUID resultId, UUID accountId, SubmissionStatus status) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline && !writeBehindResultWriter.findStatus(resultId, accountId).equals(Optional.of(status))) {
+            Thread.onSpinWait();
+        }
+        assertEquals(Optional.of(status), writeBehindResultWriter.findStatus(resultId, accountId));
+    }
+
+    private Result result() {
+        Set<Answer> answers = new HashSet<>();
+        answers.add(Answer.builder()
+                .account(accountTest)
+                .question(Question.builder().id(UUID.randomUUID()).build())
+                .userAnswers("[\"Paris\"]")
+                .isCorrect(true)
+                .points(10)
+                .build());
+
+        return Result.builder()
+                .account(accountTest)
+                .survey(surveyTest)
+                .startTime(new Timestamp(System.currentTimeMillis()))
+                .endTime(new Timestamp(System.currentTimeMillis()))
+                .duration(0)
+                .totalPoints(10)
+                .correctAnswers(1)
+                .incorrectAnswers(0)
+                .answers(answers)
+                .build();
+    }
+}
@@ -82,6 +82,20 @@ class AnswerRepositoryTest {
         );
     }
 
+    @Test
+    @DisplayName("Test streaming answer samples with their result score by survey ID")
+    void testStreamSamplesBySurveyId() {
+        try (var samples = answerRepository.streamSamplesBySurveyId(UUID.fromString("44444444-4444-4444-4444-444444444444"))) {
+            var sampleList = samples.toList();
+
+            assertAll(
+                    () -> assertEquals(3, sampleList.size()),
+                    () -> assertTrue(sampleList.stream().allMatch(sample -> sample.totalPoints() == 100)),
+                    () -> assertTrue(sampleList.stream().anyMatch(sample -> "[\"Paris\"]".equals(sample.userAnswers())))
+            );
+        }
+    }
+
     @Test
     @DisplayName("Test finding answers by result ID when no answers exist")
     void testFindByResultIdNotFound() {
@@ -9,6 +9,7 @@ import org.skyline.mcq.infrastructure.bootstrap.BootstrapData;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
 
 import java.util.UUID;
 
@@ -50,37 +51,37 @@ class CategoryRepositoryTest {
     @Test
     void testFindAllByTitleActive() {
 
-        var categories = categoryRepository.findAllByTitleIsLikeIgnoreCaseAndActive("%academic%", true, null);
+        var categories = categoryRepository.findListByTitleIsLikeIgnoreCaseAndActive("%academic%", true, Pageable.unpaged());
 
         assertNotNull(categories);
-        assertFalse(categories.getContent().isEmpty());
+        assertFalse(categories.isEmpty());
     }
 
     @Test
     void testFindAllByTitleDisActive() {
 
-        var categories = categoryRepository.findAllByTitleIsLikeIgnoreCaseAndActive("%academic%", false, null);
+        var categories = categoryRepository.findListByTitleIsLikeIgnoreCaseAndActive("%academic%", false, Pageable.unpaged());
 
         assertNotNull(categories);
-        assertTrue(categories.getContent().isEmpty());
+        assertTrue(categories.isEmpty());
     }
 
     @Test
     void testFindAllByTitleNoResults() {
 
-        var categories = categoryRepository.findAllByTitleIsLikeIgnoreCaseAndActive("%nonexistent%", true, null);
+        var categories = categoryRepository.findListByTitleIsLikeIgnoreCaseAndActive("%nonexistent%", true, Pageable.unpaged());
 
         assertNotNull(categories);
-        assertTrue(categories.getContent().isEmpty(), "Expected no categories to be returned");
+        assertTrue(categories.isEmpty(), "Expected no categories to be returned");
     }
 
     @Test
     void testFindAllByUserId() {
 
-        var categories = categoryRepository.findAllByAccountIdAndActiveIsTrue(accountTest.getId(), null);
+        var categories = categoryRepository.findListByAccountIdAndActiveIsTrue(accountTest.getId(), Pageable.unpaged());
 
-        assertFalse(categories.getContent().isEmpty(), "Expected categories to be returned");
-        assertTrue(categories.getContent().stream().allMatch(c -> c.getAccount().equals(accountTest)),
+        assertFalse(categories.isEmpty(), "Expected categories to be returned");
+        assertTrue(categories.stream().allMatch(c -> c.getAccount().equals(accountTest)),
                 "Expected all categories to be associated with the correct account");
     }
 
@@ -90,9 +91,9 @@ class CategoryRepositoryTest {
         var emptyAccount = new Account();
         emptyAccount.setId(UUID.randomUUID());
 
-        var categories = categoryRepository.findAllByAccountIdAndActiveIsTrue(emptyAccount.getId(), null);
+        var categories = categoryRepository.findListByAccountIdAndActiveIsTrue(emptyAccount.getId(), Pageable.unpaged());
 
-        assertTrue(categories.getContent().isEmpty(), "Expected no categories for this account");
+        assertTrue(categories.isEmpty(), "Expected no categories for this account");
     }
 
     @Test
@@ -135,4 +135,26 @@ class QuestionRepositoryTest {
 
         assertTrue(questionRepository.findById(savedQuestion.getId()).isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test finding all questions by survey ID")
+    void testFindAllBySurveyId() {
+        var savedQuestion = questionRepository.save(questionTest);
+
+        var questionsFound = questionRepository.findAllBySurveyId(surveyTest.getId());
+
+        assertAll(
+                () -> assertFalse(questionsFound.isEmpty()),
+                () -> assertTrue(questionsFound.stream().anyMatch(question -> question.getId().equals(savedQuestion.getId()))),
+                () -> assertTrue(questionsFound.stream().allMatch(question -> question.getSurvey().getId().equals(surveyTest.getId())))
+        );
+    }
+
+    @Test
+    @DisplayName("Test finding all questions by survey ID when the survey does not exist")
+    void testFindAllBySurveyIdNotFound() {
+        questionRepository.save(questionTest);
+
+        assertTrue(questionRepository.findAllBySurveyId(UUID.randomUUID()).isEmpty());
+    }
+}
@@ -0,0 +1,163 @@
+package org.skyline.mcq.infrastructure.outputport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.domain.enums.TypeRole;
+import org.skyline.mcq.domain.specification.SurveyFilter;
+import org.skyline.mcq.domain.specification.SurveySpecifications;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the real repository finders, captures the SQL Hibernate generates for them and asks H2 for its plan,
+ * so a change to a finder or its mapping cannot silently fall back to a table scan.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.skyline.mcq.infrastructure.outputport.SqlStatementCaptor")
+@Sql(scripts = {"classpath:createSurvey.sql"})
+class RepositoryIndexTest {
+
+    static UUID accountId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    static UUID surveyId = UUID.fromString("44444444-4444-4444-4444-444444444444");
+    static UUID categoryId = UUID.fromString("22222222-2222-2222-2222-222222222222");
+    static UUID resultId = UUID.fromString("33333333-3333-3333-3333-333333333333");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    ResultRepository resultRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    SurveyRepository surveyRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    @Test
+    @DisplayName("Test account finders use an index")
+    void testAccountFinders() {
+        assertAll(
+                () -> assertUsesIndex(() -> accountRepository.findByEmail("john@example.com"), "UK_ACCOUNT_EMAIL"),
+                () -> assertUsesIndex(() -> accountRepository.findByUsername("johndoe"), "UK_ACCOUNT_USERNAME")
+        );
+    }
+
+    @Test
+    @DisplayName("Test refresh token finders use an index")
+    void testRefreshTokenFinders() {
+        assertAll(
+                () -> assertUsesIndex(() -> refreshTokenRepository.findByToken("token"), "IDX_REFRESH_TOKEN_TOKEN"),
+                () -> assertUsesIndex(() -> refreshTokenRepository.findByAccountId(accountId), null),
+                () -> assertUsesIndex(() -> refreshTokenRepository.findByAccountEmail("john@example.com"), "UK_ACCOUNT_EMAIL")
+        );
+    }
+
+    @Test
+    @DisplayName("Test result finders use an index")
+    void testResultFinders() {
+        assertAll(
+                () -> assertUsesIndex(() -> resultRepository.findListByAccountIdAndSurveyId(accountId, surveyId, PageRequest.of(0, 10)), "IDX_RESULT_ACCOUNT_SURVEY"),
+                () -> assertUsesIndex(() -> resultRepository.countByAccountId(accountId), null),
+                () -> assertUsesIndex(() -> resultRepository.countBySurveyId(surveyId), null),
+                () -> assertUsesIndex(() -> surveyRepository.listAccountsBySurveyIdAndSurveyActiveAndUserActive(surveyId, true, true, PageRequest.of(0, 10)), null)
+        );
+    }
+
+    @Test
+    @DisplayName("Test answer and question finders use an index")
+    void testAnswerAndQuestionFinders() {
+        assertAll(
+                () -> assertUsesIndex(() -> answerRepository.findAllByResultId(resultId, PageRequest.of(0, 10)), null),
+                () -> assertUsesIndex(() -> questionRepository.findAllBySurveyId(surveyId), null)
+        );
+    }
+
+    @Test
+    @DisplayName("Test survey specifications use an index")
+    void testSurveySpecifications() {
+        SurveyFilter listing = SurveyFilter.builder().isActive(true).status(true).hasRestrictedAccess(false).categoryId(categoryId).build();
+        SurveyFilter published = SurveyFilter.builder().isActive(true).status(true).build();
+        SurveyFilter owned = SurveyFilter.builder().accountId(accountId).isActive(true).build();
+
+        assertAll(
+                () -> assertUsesIndex(() -> surveyRepository.findAll(SurveySpecifications.matching(listing)), "IDX_SURVEY_LISTING"),
+                () -> assertUsesIndex(() -> surveyRepository.findAll(SurveySpecifications.matching(published)), "IDX_SURVEY_LISTING"),
+                () -> assertUsesIndex(() -> surveyRepository.findAll(SurveySpecifications.matching(owned)), "IDX_SURVEY_ACCOUNT_ACTIVE")
+        );
+    }
+
+    @Test
+    @DisplayName("Test category finders use an index")
+    void testCategoryFinders() {
+        assertAll(
+                () -> assertUsesIndex(() -> categoryRepository.findListByActive(true, PageRequest.of(0, 10)), "IDX_CATEGORY_ACTIVE_TITLE"),
+                () -> assertUsesIndex(() -> categoryRepository.findListByAccountIdAndActiveIsTrue(accountId, PageRequest.of(0, 10)), "IDX_CATEGORY_ACCOUNT_ACTIVE")
+        );
+    }
+
+    @Test
+    @DisplayName("Test role finder uses an index")
+    void testRoleFinder() {
+        assertUsesIndex(() -> roleRepository.findByName(TypeRole.ROLE_ADMIN), "IDX_ROLE_NAME");
+    }
+
+    private void assertUsesIndex(Runnable finder, String index) {
+        SqlStatementCaptor.clear();
+        finder.run();
+        String sql = SqlStatementCaptor.statements().stream()
+                .filter(statement -> statement.startsWith("select"))
+                .findFirst()
+                .orElseThrow();
+        String plan = explain(sql);
+
+        assertNotNull(plan);
+        assertFalse(plan.contains("tableScan"), () -> "Expected an index lookup for: " + sql + "\n" + plan);
+        if (index != null) assertTrue(plan.contains(index), () -> "Expected " + index + " for: " + sql + "\n" + plan);
+    }
+
+    /**
+     * H2 picks the plan when the statement is prepared, so placeholder values of the right type are enough.
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement statement) -> {
+            ParameterMetaData parameters = statement.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                switch (parameters.getParameterType(i)) {
+                    case Types.BINARY, Types.VARBINARY -> statement.setBytes(i, new byte[16]);
+                    case Types.BOOLEAN -> statement.setBoolean(i, true);
+                    case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.NUMERIC, Types.DECIMAL -> statement.setInt(i, 1);
+                    default -> statement.setString(i, "placeholder");
+                }
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                return plan.next() ? plan.getString(1) : null;
+            }
+        });
+    }
+}
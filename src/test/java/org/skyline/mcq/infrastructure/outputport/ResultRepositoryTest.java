@@ -4,12 +4,22 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.skyline.mcq.application.dtos.output.ScoreTallyDto;
+import org.skyline.mcq.application.mappings.*;
 import org.skyline.mcq.domain.models.Account;
+import org.skyline.mcq.domain.models.Answer;
 import org.skyline.mcq.domain.models.Result;
 import org.skyline.mcq.domain.models.Survey;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.sql.Timestamp;
@@ -18,7 +28,8 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ResultMapperImpl.class, SurveyMapperImpl.class, AccountMapperImpl.class, AnswerMapperImpl.class, QuestionMapperImpl.class})
 @Sql(scripts = {"classpath:createSurvey.sql"})
 class ResultRepositoryTest {
 
@@ -34,6 +45,18 @@ class ResultRepositoryTest {
     @Autowired
     SurveyRepository surveyRepository;
 
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    ResultMapper resultMapper;
+
+    @Autowired
+    EntityManager entityManager;
+
     Account accountTest;
     Result resultTest;
     Survey surveyTest;
@@ -76,13 +99,66 @@ class ResultRepositoryTest {
         });
     }
 
+    @Test
+    @DisplayName("Test saving a result cascades its answers with time-ordered IDs")
+    void testSaveResultWithAnswers() {
+        var question = questionRepository.findById(UUID.fromString("55555555-5555-5555-5555-555555555555")).orElseThrow();
+        for (int i = 0; i < 3; i++) {
+            var answer = Answer.builder()
+                    .account(accountTest)
+                    .question(question)
+                    .result(resultTest)
+                    .userAnswers("[\"Paris\"]")
+                    .isCorrect(true)
+                    .points(10)
+                    .build();
+            resultTest.getAnswers().add(answer);
+        }
+
+        var savedResult = resultRepository.saveAndFlush(resultTest);
+        var savedAnswers = answerRepository.findAll().stream()
+                .filter(answer -> answer.getResult() != null && savedResult.getId().equals(answer.getResult().getId()))
+                .toList();
+
+        assertAll(() -> {
+            assertEquals(7, savedResult.getId().version());
+            assertEquals(3, savedAnswers.size());
+            assertTrue(savedAnswers.stream().allMatch(answer -> answer.getId().version() == 7));
+        });
+    }
+
+    @Test
+    @DisplayName("Test tallying result scores by survey ID")
+    void testTallyScoresBySurveyId() {
+        resultRepository.save(resultTest);
+
+        var tallies = resultRepository.tallyScoresBySurveyId(UUID.fromString(surveyId));
+
+        assertAll(() -> {
+            assertEquals(2, tallies.size());
+            assertTrue(tallies.contains(new ScoreTallyDto(20, 1L, 1800L)));
+            assertTrue(tallies.contains(new ScoreTallyDto(100, 1L, 3600L)));
+        });
+    }
+
+    @Test
+    @DisplayName("Test checking a result exists by ID and account ID")
+    void testExistsByIdAndAccountId() {
+        var savedResult = resultRepository.save(resultTest);
+
+        assertAll(() -> {
+            assertTrue(resultRepository.existsByIdAndAccountId(savedResult.getId(), UUID.fromString(accountId)));
+            assertFalse(resultRepository.existsByIdAndAccountId(savedResult.getId(), UUID.randomUUID()));
+        });
+    }
+
     @Test
     @DisplayName("Test finding results by account ID and survey ID")
     void testFindAllByAccountIdAndSurveyId() {
         resultRepository.save(resultTest);
 
-        var resultsFound = resultRepository.findAllByAccountIdAndSurveyId(
-                UUID.fromString(accountId), UUID.fromString(surveyId), Pageable.unpaged()).getContent();
+        var resultsFound = resultRepository.findListByAccountIdAndSurveyId(
+                UUID.fromString(accountId), UUID.fromString(surveyId), Pageable.unpaged());
 
         assertAll(() -> {
             assertNotNull(resultsFound);
@@ -96,8 +172,8 @@ class ResultRepositoryTest {
     @Test
     @DisplayName("Test finding results by account ID and survey ID when no results exist")
     void testFindAllByAccountIdAndSurveyIdNotFound() {
-        var resultsFound = resultRepository.findAllByAccountIdAndSurveyId(
-                UUID.randomUUID(), UUID.randomUUID(), Pageable.unpaged()).getContent();
+        var resultsFound = resultRepository.findListByAccountIdAndSurveyId(
+                UUID.randomUUID(), UUID.randomUUID(), Pageable.unpaged());
 
         assertAll(() -> {
             assertTrue(resultsFound.isEmpty());
@@ -110,8 +186,8 @@ class ResultRepositoryTest {
     void testFindAllByAccountId() {
         resultRepository.save(resultTest);
 
-        var resultsFound = resultRepository.findAllByAccountId(
-                UUID.fromString(accountId), Pageable.unpaged()).getContent();
+        var resultsFound = resultRepository.findListByAccountId(
+                UUID.fromString(accountId), Pageable.unpaged());
 
         assertAll(() -> {
             assertNotNull(resultsFound);
@@ -124,8 +200,8 @@ class ResultRepositoryTest {
     @Test
     @DisplayName("Test finding results by account ID when no results exist")
     void testFindAllByAccountIdNotFound() {
-        var resultsFound = resultRepository.findAllByAccountId(
-                UUID.randomUUID(), Pageable.unpaged()).getContent();
+        var resultsFound = resultRepository.findListByAccountId(
+                UUID.randomUUID(), Pageable.unpaged());
 
         assertAll(() -> {
             assertTrue(resultsFound.isEmpty());
@@ -138,7 +214,7 @@ class ResultRepositoryTest {
     void testFindAllBySurveyId() {
         resultRepository.save(resultTest);
 
-        var resultsFound = resultRepository.findAllBySurveyId(UUID.fromString(surveyId), Pageable.unpaged()).getContent();
+        var resultsFound = resultRepository.findListBySurveyId(UUID.fromString(surveyId), Pageable.unpaged());
 
         assertAll(() -> {
             assertNotNull(resultsFound);
@@ -147,4 +223,56 @@ class ResultRepositoryTest {
             assertEquals(surveyId, resultsFound.getFirst().getSurvey().getId().toString());
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test scrolling results by account ID with a keyset position")
+    void testScrollAllByAccountId() {
+        resultRepository.save(resultTest);
+        Sort keysetSort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+        var firstWindow = resultRepository.findAllByAccountId(
+                UUID.fromString(accountId), ScrollPosition.keyset(), Limit.of(2), keysetSort);
+        var secondWindow = resultRepository.findAllByAccountId(
+                UUID.fromString(accountId), firstWindow.positionAt(firstWindow.size() - 1), Limit.of(2), keysetSort);
+
+        assertAll(() -> {
+            assertEquals(2, firstWindow.size());
+            assertTrue(firstWindow.hasNext());
+            assertEquals(resultTest.getId(), firstWindow.getContent().getFirst().getId());
+            assertEquals(1, secondWindow.size());
+            assertFalse(secondWindow.hasNext());
+            assertTrue(firstWindow.getContent().stream().noneMatch(result -> result.getId().equals(secondWindow.getContent().getFirst().getId())));
+        });
+    }
+
+    @Test
+    @DisplayName("Test mapping a page of 25 results issues a fixed number of statements")
+    void testFindListByAccountIdStatementCount() {
+        var surveys = surveyRepository.findAll();
+        for (int i = 0; i < 25; i++) {
+            resultRepository.save(Result.builder()
+                    .account(accountTest)
+                    .survey(surveys.get(i % surveys.size()))
+                    .duration(60)
+                    .totalPoints(i)
+                    .correctAnswers(1)
+                    .incorrectAnswers(0)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var resultsFound = resultRepository.findListByAccountId(UUID.fromString(accountId), PageRequest.of(0, 25));
+        var responses = resultsFound.stream().map(resultMapper::resultToResultResponseDto).toList();
+
+        assertAll(() -> {
+            assertEquals(25, responses.size());
+            assertTrue(responses.stream().allMatch(response -> response.getSurvey().getCategory() != null));
+            assertTrue(statistics.getPrepareStatementCount() <= 3,
+                    "Expected at most 3 statements but got " + statistics.getPrepareStatementCount());
+        });
+    }
+}
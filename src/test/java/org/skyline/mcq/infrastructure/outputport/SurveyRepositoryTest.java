@@ -1,23 +1,29 @@
 package org.skyline.mcq.infrastructure.outputport;
 
 import jakarta.transaction.Transactional;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.skyline.mcq.application.utils.PaginationHelper;
 import org.skyline.mcq.domain.models.Survey;
+import org.skyline.mcq.domain.specification.SurveyFilter;
 import org.skyline.mcq.domain.specification.SurveySpecifications;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.skyline.mcq.infrastructure.outputport.SqlStatementCaptor")
 @Transactional
 @Sql(scripts = {"classpath:createSurvey.sql"})
 class SurveyRepositoryTest {
@@ -210,4 +216,89 @@ class SurveyRepositoryTest {
             assertEquals(1, result.getContent().size());
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test finding a survey with its questions, category and account in one load")
+    void testFindWithQuestionsById() {
+        var survey = surveyRepository.findWithQuestionsById(UUID.fromString("44444444-4444-4444-4444-444444444444")).orElseThrow();
+
+        assertAll(
+                () -> assertTrue(Hibernate.isInitialized(survey.getQuestions())),
+                () -> assertEquals(3, survey.getQuestions().size()),
+                () -> assertTrue(Hibernate.isInitialized(survey.getCategory())),
+                () -> assertTrue(Hibernate.isInitialized(survey.getAccount()))
+        );
+    }
+
+    @Test
+    @DisplayName("Test reading an offset page of surveys without a count query")
+    void testFindByOffsetPosition() {
+        Specification<Survey> specIdCategory2 = SurveySpecifications.hasCategoryId(UUID.fromString(idCategory2));
+        PaginationHelper paginationHelper = new PaginationHelper();
+
+        var firstPage = surveyRepository.findBy(specIdCategory2, query -> query.sortBy(Sort.by("id")).limit(2)
+                .scroll(paginationHelper.buildOffsetPosition(PageRequest.of(0, 2)))).getContent();
+        var secondPage = surveyRepository.findBy(specIdCategory2, query -> query.sortBy(Sort.by("id")).limit(2)
+                .scroll(paginationHelper.buildOffsetPosition(PageRequest.of(1, 2)))).getContent();
+
+        assertAll(
+                () -> assertEquals(2, firstPage.size()),
+                () -> assertEquals("66666666-6666-6666-6666-666666666666", firstPage.getFirst().getId().toString()),
+                () -> assertEquals(1, secondPage.size()),
+                () -> assertEquals("88888888-8888-8888-8888-888888888888", secondPage.getFirst().getId().toString())
+        );
+    }
+
+    @Test
+    @DisplayName("Test the compiled survey filter renders each predicate exactly once")
+    void testMatchingRendersEachPredicateOnce() {
+        SurveyFilter filter = SurveyFilter.builder()
+                .categoryId(UUID.fromString(idCategory2))
+                .accountId(UUID.fromString("11111111-1111-1111-1111-111111111111"))
+                .isActive(false)
+                .status(true)
+                .hasRestrictedAccess(true)
+                .build();
+
+        SqlStatementCaptor.clear();
+        var surveysFound = surveyRepository.findAll(SurveySpecifications.matching(filter));
+        String sql = SqlStatementCaptor.statements().stream()
+                .filter(statement -> statement.startsWith("select"))
+                .findFirst()
+                .orElseThrow();
+
+        assertAll(
+                () -> assertEquals(1, surveysFound.size()),
+                () -> assertEquals("77777777-7777-7777-7777-777777777777", surveysFound.getFirst().getId().toString()),
+                () -> assertEquals(1, countOccurrences(sql, "category_id=?")),
+                () -> assertEquals(1, countOccurrences(sql, "account_id=?")),
+                () -> assertEquals(1, countOccurrences(sql, ".active=?")),
+                () -> assertEquals(1, countOccurrences(sql, ".status=?")),
+                () -> assertEquals(1, countOccurrences(sql, "is_public=?")),
+                () -> assertFalse(sql.contains(" join "))
+        );
+    }
+
+    @Test
+    @DisplayName("Test listing survey summaries with question counts in a single query")
+    void testFindSurveyListItems() {
+        SurveyFilter filter = SurveyFilter.builder().categoryId(UUID.fromString(idCategory1)).build();
+
+        SqlStatementCaptor.clear();
+        var items = surveyRepository.findSurveyListItems(filter, PageRequest.of(0, 10, Sort.by("id")));
+
+        assertAll(
+                () -> assertEquals(1, SqlStatementCaptor.statements().size()),
+                () -> assertEquals(2, items.size()),
+                () -> assertEquals("44444444-4444-4444-4444-444444444444", items.getFirst().id().toString()),
+                () -> assertEquals(3, items.getFirst().questionCount()),
+                () -> assertEquals(UUID.fromString(idCategory1), items.getFirst().categoryId()),
+                () -> assertNotNull(items.getFirst().categoryTitle()),
+                () -> assertNotNull(items.getFirst().accountUsername())
+        );
+    }
+
+    private static int countOccurrences(String sql, String fragment) {
+        return sql.split(Pattern.quote(fragment), -1).length - 1;
+    }
+}
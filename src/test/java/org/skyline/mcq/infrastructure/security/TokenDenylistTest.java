@@ -0,0 +1,70 @@
+package org.skyline.mcq.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenylistTest {
+
+    private TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        tokenDenylist = new TokenDenylist(3600000);
+    }
+
+    @Test
+    @DisplayName("Denylist: Should not revoke tokens of accounts that never logged out")
+    void testIsRevokedUnknownAccount() {
+        assertThat(tokenDenylist.isRevoked(UUID.randomUUID(), tokenDenylist.currentVersion())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Denylist: Should revoke tokens issued before the logout")
+    void testIsRevokedTokenIssuedBeforeLogout() {
+        UUID accountId = UUID.randomUUID();
+        long version = tokenDenylist.currentVersion();
+
+        tokenDenylist.revokeAccount(accountId);
+
+        assertThat(tokenDenylist.isRevoked(accountId, version)).isTrue();
+        assertThat(tokenDenylist.isRevoked(UUID.randomUUID(), version)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Denylist: Should accept tokens issued after the logout")
+    void testIsRevokedTokenIssuedAfterLogout() {
+        UUID accountId = UUID.randomUUID();
+
+        tokenDenylist.revokeAccount(accountId);
+
+        assertThat(tokenDenylist.isRevoked(accountId, tokenDenylist.currentVersion())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Denylist: Should tell tokens apart that are issued around a logout within the same instant")
+    void testIsRevokedLoginLogoutLoginBackToBack() {
+        UUID accountId = UUID.randomUUID();
+
+        long before = tokenDenylist.currentVersion();
+        tokenDenylist.revokeAccount(accountId);
+        long after = tokenDenylist.currentVersion();
+
+        assertThat(tokenDenylist.isRevoked(accountId, before)).isTrue();
+        assertThat(tokenDenylist.isRevoked(accountId, after)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Denylist: Should revoke tokens without a version once the account logged out")
+    void testIsRevokedUnversionedToken() {
+        UUID accountId = UUID.randomUUID();
+
+        tokenDenylist.revokeAccount(accountId);
+
+        assertThat(tokenDenylist.isRevoked(accountId, null)).isTrue();
+    }
+}
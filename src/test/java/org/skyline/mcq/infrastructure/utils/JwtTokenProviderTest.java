@@ -0,0 +1,85 @@
+package org.skyline.mcq.infrastructure.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.skyline.mcq.application.utils.CustomUserDetails;
+import org.skyline.mcq.infrastructure.security.TokenDenylist;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "7oJ2MD5QX64bAJxvRj9S21Cv9wR7NTg3EZyNqAuqJ1I2028lin";
+
+    private CustomUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        userDetails = CustomUserDetails.builder()
+                .id(UUID.randomUUID())
+                .email("respondent@example.com")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_SURVEY_RESPONDENT")))
+                .build();
+    }
+
+    private JwtTokenProvider buildProvider(int expiration) {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(new TokenDenylist(3600000));
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtTokenProvider, "expiration", expiration);
+        ReflectionTestUtils.setField(jwtTokenProvider, "tokenCacheTtl", 60000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "tokenCacheSize", 100L);
+        jwtTokenProvider.init();
+        return jwtTokenProvider;
+    }
+
+    @Test
+    @DisplayName("Verify token: Should return the account claims and reuse them for the same token")
+    void testVerifyTokenCachesClaims() {
+        JwtTokenProvider jwtTokenProvider = buildProvider(3600000);
+        String token = jwtTokenProvider.generateToken(userDetails);
+
+        Claims claims = jwtTokenProvider.verifyToken(token);
+        CustomUserDetails extracted = jwtTokenProvider.extractUserDetails(claims).orElseThrow();
+
+        assertThat(jwtTokenProvider.verifyToken(token)).isSameAs(claims);
+        assertThat(jwtTokenProvider.validateToken(token, userDetails.getEmail())).isTrue();
+        assertThat(extracted.getId()).isEqualTo(userDetails.getId());
+        assertThat(extracted.getEmail()).isEqualTo(userDetails.getEmail());
+        assertThat(extracted.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_SURVEY_RESPONDENT");
+    }
+
+    @Test
+    @DisplayName("Verify token: Should reject a token once it expires even if its claims are cached")
+    void testVerifyTokenExpiredWhileCached() throws InterruptedException {
+        JwtTokenProvider jwtTokenProvider = buildProvider(1500);
+        String token = jwtTokenProvider.generateToken(userDetails);
+
+        jwtTokenProvider.verifyToken(token);
+        Thread.sleep(2000);
+
+        assertThatThrownBy(() -> jwtTokenProvider.verifyToken(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Verify token: Should reject a token with a tampered signature")
+    void testVerifyTokenTamperedSignature() {
+        JwtTokenProvider jwtTokenProvider = buildProvider(3600000);
+        String token = jwtTokenProvider.generateToken(userDetails);
+        jwtTokenProvider.verifyToken(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtTokenProvider.verifyToken(tampered)).isInstanceOf(SignatureException.class);
+    }
+}